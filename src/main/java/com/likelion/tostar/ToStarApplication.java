@@ -3,9 +3,11 @@ package com.likelion.tostar;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing // Entity Listener available
+@EnableScheduling
 public class ToStarApplication {
 
 	public static void main(String[] args) {
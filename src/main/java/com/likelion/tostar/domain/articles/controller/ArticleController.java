@@ -68,8 +68,9 @@ public class ArticleController {
     public ResponseEntity<?> getArticlesByUserId(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @RequestParam(value = "page", defaultValue = "0")int page,
-            @RequestParam(value = "size", defaultValue = "4")int size) {
-        return articleService.getUserArticles(customUserDetails.getId(), page, size);
+            @RequestParam(value = "size", defaultValue = "4")int size,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal) {
+        return articleService.getUserArticles(customUserDetails.getId(), page, size, withTotal);
     }
 
     /**
@@ -80,19 +81,34 @@ public class ArticleController {
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @PathVariable Long searchId,
             @RequestParam(value = "page", defaultValue = "0")int page,
+            @RequestParam(value = "size", defaultValue = "4")int size,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal) {
+        return articleService.getFriendsArticlesByUserId(customUserDetails.getId(), searchId, page, size, withTotal);
+    }
+
+    /**
+     * 친구들의 추억 조회 (홈 타임라인, 최신순)
+     * 다음 페이지 : 응답 헤더 X-Next-Cursor 값을 cursor 로 전달
+     */
+    @GetMapping("/timeline")
+    public ResponseEntity<?> getTimeline(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam(value = "size", defaultValue = "4")int size) {
-        return articleService.getFriendsArticlesByUserId(customUserDetails.getId(), searchId, page, size);
+        return articleService.getTimeline(customUserDetails.getId(), cursor, size);
     }
 
     /**
      * 특정 사용자들을 제외한 추억 조회
+     * 다음 페이지 : 응답 헤더 X-Next-Cursor 값을 cursor 로 전달 (page 는 기존 클라이언트 호환용)
      */
     @GetMapping("/others")
     public ResponseEntity<?> getArticlesWithoutFriends(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestParam(value = "cursor", required = false) String cursor,
             @RequestParam(value = "page", defaultValue = "0")int page,
             @RequestParam(value = "size", defaultValue = "4")int size) {
-        return articleService.getArticlesWithoutFriends(customUserDetails.getId(), page, size);
+        return articleService.getArticlesWithoutFriends(customUserDetails.getId(), cursor, page, size);
 
     }
 }
@@ -2,8 +2,12 @@ package com.likelion.tostar.domain.articles.dto;
 
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 public class ArticleCreateModifyRequestDto {
     private String title;
     private String content;
+    // (수정 시) 그대로 유지할 기존 이미지 id 목록 (이 순서대로 앞에 배치, 새 이미지는 그 뒤에 파일 순서대로)
+    private List<Long> keepImageIds;
 }
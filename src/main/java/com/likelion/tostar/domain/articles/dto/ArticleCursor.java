@@ -0,0 +1,31 @@
+package com.likelion.tostar.domain.articles.dto;
+
+import com.likelion.tostar.global.enums.statuscode.ErrorStatus;
+import com.likelion.tostar.global.exception.GeneralException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 추억 목록 커서 (created_at, id) - 클라이언트에는 Base64 문자열로 전달
+ */
+public record ArticleCursor(LocalDateTime createdAt, Long id) {
+
+    public String encode() {
+        String raw = createdAt + "_" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 400 : 잘못된 커서
+    public static ArticleCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('_');
+            return new ArticleCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new GeneralException(ErrorStatus._BAD_REQUEST);
+        }
+    }
+}
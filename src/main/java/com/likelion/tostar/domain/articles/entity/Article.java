@@ -4,8 +4,10 @@ import com.likelion.tostar.domain.user.entity.User;
 import com.likelion.tostar.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @Entity
@@ -13,13 +15,19 @@ import java.util.List;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "Article")
+@Table(name = "Article", indexes = {
+        // 최신순 목록 커서 페이징 (created_at, id)
+        @Index(name = "idx_article_created_at_id", columnList = "created_at, id"),
+        // 회원별 최신순 목록
+        @Index(name = "idx_article_user_id_created_at", columnList = "user_id, created_at")
+})
 public class Article extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    // 작성자는 쿼리별 fetch plan (EntityGraph / JOIN FETCH) 으로 함께 조회
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -31,6 +39,10 @@ public class Article extends BaseEntity {
     @OneToMany(mappedBy = "article",
             cascade = CascadeType.ALL, orphanRemoval = true)
             // ArticleImage의 생명주기를 Article에 종속
+    // 목록 조회 시 페이지의 게시글 이미지를 IN 쿼리 한 번으로 조회
+    @BatchSize(size = 100)
+    // 사용자가 지정한 이미지 순서 (순서 도입 전 이미지는 sort_order 가 없어 id 순)
+    @OrderBy("sortOrder ASC, id ASC")
     @Builder.Default
     private List<ArticleImage> images = new ArrayList<>();
 
@@ -38,6 +50,7 @@ public class Article extends BaseEntity {
     // ========== 편의 메서드 ===========
     // 이미지 추가
     public void addImage(ArticleImage image) {
+        image.changeSortOrder(images.size());
         images.add(image);
         image.addArticle(this);
     }
@@ -58,4 +71,20 @@ public class Article extends BaseEntity {
             addImage(newImage);
         }
     }
+
+    // 이미지 수정 (변경분만 반영) ; 요청 순서대로 정렬된 최종 이미지 목록을 받아
+    // 목록에 없는 기존 이미지는 제거, 새 이미지는 추가, 순서는 목록 순서로 다시 매김
+    public void replaceImages(List<ArticleImage> orderedImages) {
+        images.removeIf(image -> !orderedImages.contains(image));
+        for (ArticleImage image : orderedImages) {
+            if (!images.contains(image)) {
+                images.add(image);
+                image.addArticle(this);
+            }
+        }
+        images.sort(Comparator.comparingInt(orderedImages::indexOf));
+        for (int i = 0; i < images.size(); i++) {
+            images.get(i).changeSortOrder(i);
+        }
+    }
 }
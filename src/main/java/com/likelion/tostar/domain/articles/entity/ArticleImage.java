@@ -17,7 +17,15 @@ public class ArticleImage extends BaseEntity {
 
     private String url;
 
-    @ManyToOne
+    // 이미지 내용 해시 (SHA-256) ; 수정 시 같은 이미지 재업로드 방지
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 게시글 안에서의 이미지 순서 (0부터)
+    @Column(name = "sort_order")
+    private Integer sortOrder;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "article_id")
     private Article article;
 
@@ -25,4 +33,8 @@ public class ArticleImage extends BaseEntity {
     public void addArticle(Article article) {
         this.article = article;
     }
+
+    public void changeSortOrder(int sortOrder) {
+        this.sortOrder = sortOrder;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.likelion.tostar.domain.articles.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 사용자별 홈 타임라인 (친구 게시글 목록을 미리 계산해서 저장, fan-out-on-write)
+ * 게시글 작성 시 작성자를 친구로 둔 사용자들의 타임라인에 추가
+ * 연관 매핑 없이 id 만 저장 -> INSERT ... SELECT 로 한 번에 적재
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "Timeline",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_timeline_owner_article", columnNames = {"owner_id", "article_id"})
+        },
+        indexes = {
+                // 타임라인 최신순 커서 페이징
+                @Index(name = "idx_timeline_owner_created_at", columnList = "owner_id, article_created_at, article_id"),
+                // 게시글 삭제 시 정리
+                @Index(name = "idx_timeline_article_id", columnList = "article_id"),
+                // 친구 삭제 시 정리
+                @Index(name = "idx_timeline_owner_author", columnList = "owner_id, author_id")
+        })
+public class TimelineEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId; // 타임라인 주인
+
+    @Column(name = "article_id", nullable = false)
+    private Long articleId;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId; // 게시글 작성자 (친구)
+
+    @Column(name = "article_created_at", nullable = false)
+    private LocalDateTime articleCreatedAt; // 게시글 작성 시각 (정렬 기준)
+}
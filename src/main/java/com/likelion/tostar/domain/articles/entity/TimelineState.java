@@ -0,0 +1,29 @@
+package com.likelion.tostar.domain.articles.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 사용자별 타임라인 생성 상태 (rebuild 만 기록)
+ * - 행 없음 : 타임라인 없음 -> fan-out / backfill 대상 아님, 조회는 직접 계산
+ * - rebuild_started_at 만 있음 : 생성 중 -> fan-out / backfill 대상, 조회는 아직 직접 계산
+ * - materialized_at 있음 : 생성 완료 -> 타임라인 테이블에서 조회
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "TimelineState")
+public class TimelineState {
+    @Id
+    @Column(name = "owner_id")
+    private Long ownerId; // 타임라인 주인
+
+    @Column(name = "rebuild_started_at", nullable = false)
+    private LocalDateTime rebuildStartedAt; // 생성 시작 시각 (중단된 생성 재시도 판단)
+
+    @Column(name = "materialized_at")
+    private LocalDateTime materializedAt; // 생성 완료 시각
+}
@@ -0,0 +1,7 @@
+package com.likelion.tostar.domain.articles.event;
+
+/**
+ * 추억 수정 / 삭제 (커밋 후 상세 조회 캐시 무효화)
+ */
+public record ArticleChangedEvent(Long articleId) {
+}
@@ -0,0 +1,9 @@
+package com.likelion.tostar.domain.articles.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추억 등록 (커밋 후 타임라인 fan-out)
+ */
+public record ArticleCreatedEvent(Long articleId, Long authorId, LocalDateTime createdAt) {
+}
@@ -3,19 +3,66 @@ package com.likelion.tostar.domain.articles.repository;
 import com.likelion.tostar.domain.articles.entity.Article;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Repository
 public interface ArticleRepository extends JpaRepository<Article,Long> {
-    // 회원 ID로 게시글 조회
+    // 추억 상세 : 작성자, 이미지까지 한 번에 조회
+    @EntityGraph(attributePaths = {"user", "images"})
+    @Query("SELECT a FROM Article a WHERE a.id = :articleId")
+    Optional<Article> findDetailById(@Param("articleId") Long articleId);
+
+    // 회원 ID로 게시글 조회 (작성자 JOIN, 이미지는 @BatchSize 로 일괄 조회)
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT a FROM Article a WHERE a.user.id = :userId ORDER BY a.createdAt DESC")
     Page<Article> findAllByUserId(@Param("userId") Long userId, Pageable pageable);
 
-    @Query("SELECT a FROM Article a WHERE a.user.id NOT IN :userIds ORDER BY a.createdAt DESC")
-    Page<Article> findArticlesExcludingUsers(@Param("userIds") List<Long> userIds, Pageable pageable);
+    // (무한 스크롤) COUNT 쿼리 없이 size + 1 건 조회로 다음 페이지 여부 판단
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT a FROM Article a WHERE a.user.id = :userId ORDER BY a.createdAt DESC")
+    Slice<Article> findSliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 나와 친구를 제외한 게시글 : 친구 id 목록 대신 Relationship 과 anti-join (NOT EXISTS)
+    // (created_at, id) 순 정렬 + Slice 반환 (COUNT 쿼리 없음)
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT a FROM Article a WHERE a.user.id <> :userId "
+            + "AND NOT EXISTS (SELECT r.id FROM Relationship r WHERE r.follower.id = :userId AND r.followee.id = a.user.id) "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<Article> findExploreArticles(@Param("userId") Long userId, Pageable pageable);
+
+    // 커서 이후 페이지 : (created_at, id) 가 커서보다 이전인 게시글 (OFFSET 없이 인덱스 범위 탐색)
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT a FROM Article a WHERE a.user.id <> :userId "
+            + "AND NOT EXISTS (SELECT r.id FROM Relationship r WHERE r.follower.id = :userId AND r.followee.id = a.user.id) "
+            + "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :articleId)) "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<Article> findExploreArticlesBefore(@Param("userId") Long userId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("articleId") Long articleId,
+                                             Pageable pageable);
+
+    // 친구 게시글 직접 조회 (fan-out-on-read, 친구가 매우 많은 사용자 / 타임라인 생성 전)
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT a FROM Article a WHERE EXISTS "
+            + "(SELECT r.id FROM Relationship r WHERE r.follower.id = :userId AND r.followee.id = a.user.id) "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<Article> findFriendArticles(@Param("userId") Long userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT a FROM Article a WHERE EXISTS "
+            + "(SELECT r.id FROM Relationship r WHERE r.follower.id = :userId AND r.followee.id = a.user.id) "
+            + "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :articleId)) "
+            + "ORDER BY a.createdAt DESC, a.id DESC")
+    Slice<Article> findFriendArticlesBefore(@Param("userId") Long userId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("articleId") Long articleId,
+                                            Pageable pageable);
 }
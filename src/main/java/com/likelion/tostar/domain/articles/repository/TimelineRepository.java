@@ -0,0 +1,65 @@
+package com.likelion.tostar.domain.articles.repository;
+
+import com.likelion.tostar.domain.articles.entity.Article;
+import com.likelion.tostar.domain.articles.entity.TimelineEntry;
+import java.time.LocalDateTime;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TimelineRepository extends JpaRepository<TimelineEntry, Long> {
+    // 타임라인 최신순 조회 (owner_id, article_created_at, article_id) 인덱스 범위 탐색
+    // 작성자 JOIN FETCH, 이미지는 @BatchSize 로 일괄 조회
+    @Query("SELECT a FROM TimelineEntry t JOIN Article a ON a.id = t.articleId JOIN FETCH a.user "
+            + "WHERE t.ownerId = :ownerId ORDER BY t.articleCreatedAt DESC, t.articleId DESC")
+    Slice<Article> findTimeline(@Param("ownerId") Long ownerId, Pageable pageable);
+
+    @Query("SELECT a FROM TimelineEntry t JOIN Article a ON a.id = t.articleId JOIN FETCH a.user "
+            + "WHERE t.ownerId = :ownerId "
+            + "AND (t.articleCreatedAt < :createdAt OR (t.articleCreatedAt = :createdAt AND t.articleId < :articleId)) "
+            + "ORDER BY t.articleCreatedAt DESC, t.articleId DESC")
+    Slice<Article> findTimelineBefore(@Param("ownerId") Long ownerId,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("articleId") Long articleId,
+                                      Pageable pageable);
+
+    // 게시글 fan-out : 작성자를 친구로 둔 사용자(follower) 타임라인에 한 번에 추가
+    // 타임라인 생성 전(timeline_state 없음)인 사용자, 친구 수가 maxFollowees 를 넘는 사용자는
+    // 조회 시 직접 계산(fan-out-on-read)하므로 제외
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO timeline (owner_id, article_id, author_id, article_created_at) "
+            + "SELECT r.follower, :articleId, :authorId, :createdAt FROM relationship r "
+            + "WHERE r.followee = :authorId "
+            + "AND EXISTS (SELECT 1 FROM timeline_state s WHERE s.owner_id = r.follower) "
+            + "AND (SELECT COUNT(*) FROM relationship r2 WHERE r2.follower = r.follower) <= :maxFollowees",
+            nativeQuery = true)
+    int fanOut(@Param("articleId") Long articleId,
+               @Param("authorId") Long authorId,
+               @Param("createdAt") LocalDateTime createdAt,
+               @Param("maxFollowees") long maxFollowees);
+
+    // 친구 추가 시 친구의 최근 게시글을 타임라인에 채움
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO timeline (owner_id, article_id, author_id, article_created_at) "
+            + "SELECT :ownerId, a.id, a.user_id, a.created_at FROM article a "
+            + "WHERE a.user_id = :authorId ORDER BY a.created_at DESC, a.id DESC LIMIT :limit",
+            nativeQuery = true)
+    int backfill(@Param("ownerId") Long ownerId, @Param("authorId") Long authorId, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.articleId = :articleId")
+    int deleteByArticleId(@Param("articleId") Long articleId);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.ownerId = :ownerId AND t.authorId = :authorId")
+    int deleteByOwnerIdAndAuthorId(@Param("ownerId") Long ownerId, @Param("authorId") Long authorId);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.ownerId = :ownerId")
+    int deleteByOwnerId(@Param("ownerId") Long ownerId);
+}
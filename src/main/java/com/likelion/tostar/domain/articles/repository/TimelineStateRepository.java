@@ -0,0 +1,36 @@
+package com.likelion.tostar.domain.articles.repository;
+
+import com.likelion.tostar.domain.articles.entity.TimelineState;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TimelineStateRepository extends JpaRepository<TimelineState, Long> {
+    boolean existsByOwnerIdAndMaterializedAtIsNotNull(Long ownerId);
+
+    // 생성 시작 기록 : 이미 행이 있으면 0 (다른 rebuild 가 진행 중이거나 완료)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO timeline_state (owner_id, rebuild_started_at) VALUES (:ownerId, :now)",
+            nativeQuery = true)
+    int claim(@Param("ownerId") Long ownerId, @Param("now") LocalDateTime now);
+
+    // 중단된 생성 재시도 : 완료되지 않은 채 staleBefore 이전에 시작된 경우에만 1
+    @Modifying
+    @Query("UPDATE TimelineState s SET s.rebuildStartedAt = :now "
+            + "WHERE s.ownerId = :ownerId AND s.materializedAt IS NULL AND s.rebuildStartedAt < :staleBefore")
+    int reclaimStale(@Param("ownerId") Long ownerId,
+                     @Param("now") LocalDateTime now,
+                     @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query("UPDATE TimelineState s SET s.materializedAt = :now WHERE s.ownerId = :ownerId")
+    int markMaterialized(@Param("ownerId") Long ownerId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM TimelineState s WHERE s.ownerId = :ownerId")
+    int deleteByOwnerId(@Param("ownerId") Long ownerId);
+}
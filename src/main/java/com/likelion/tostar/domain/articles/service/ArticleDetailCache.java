@@ -0,0 +1,96 @@
+package com.likelion.tostar.domain.articles.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.likelion.tostar.domain.articles.dto.ArticleSearchDetailResponseDto;
+import com.likelion.tostar.domain.articles.dto.ArticleSearchListResponseDto;
+import com.likelion.tostar.domain.articles.entity.Article;
+import com.likelion.tostar.domain.articles.entity.ArticleImage;
+import com.likelion.tostar.domain.articles.event.ArticleChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 추억 상세 조회 캐시 (인스턴스 로컬, 크기 + TTL 제한)
+ * 조회자마다 다른 isOwner 는 캐시하지 않고 응답 생성 시 계산
+ * 수정 / 삭제 커밋 후 무효화, 다른 인스턴스의 수정은 TTL 이 지나면 반영
+ */
+@Component
+public class ArticleDetailCache {
+    private final Cache<Long, CachedArticleDetail> cache;
+
+    public ArticleDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${article.detail-cache.max-size:10000}") long maxSize,
+            @Value("${article.detail-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        // 메트릭 : cache.gets{result=hit|miss}, cache.evictions, cache.size ...
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "article.detail");
+    }
+
+    /**
+     * 캐시에서 조회, 없으면 loader 로 조회 후 저장 (존재하지 않는 추억은 저장하지 않음)
+     */
+    public Optional<ArticleSearchDetailResponseDto> get(Long articleId, Long viewerId,
+                                                         Function<Long, Optional<Article>> loader) {
+        CachedArticleDetail detail = cache.get(articleId,
+                id -> loader.apply(id).map(CachedArticleDetail::from).orElse(null));
+        return Optional.ofNullable(detail).map(cached -> cached.toResponse(viewerId));
+    }
+
+    public void evict(Long articleId) {
+        cache.invalidate(articleId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleArticleChanged(ArticleChangedEvent event) {
+        evict(event.articleId());
+    }
+
+    // 캐시 항목 (불변) ; 조회자와 무관한 정보만 보관
+    private record CachedArticleDetail(Long articleId, Long authorId, String title, String content,
+                                       List<CachedImage> images) {
+        static CachedArticleDetail from(Article article) {
+            List<CachedImage> images = article.getImages().stream()
+                    .map(CachedImage::from)
+                    .toList();
+            return new CachedArticleDetail(article.getId(), article.getUser().getId(),
+                    article.getTitle(), article.getContent(), images);
+        }
+
+        ArticleSearchDetailResponseDto toResponse(Long viewerId) {
+            List<ArticleSearchListResponseDto.ImageDto> imageDtos = images.stream()
+                    .map(image -> ArticleSearchListResponseDto.ImageDto.builder()
+                            .imageId(image.imageId())
+                            .url(image.url())
+                            .build())
+                    .toList();
+            return ArticleSearchDetailResponseDto.builder()
+                    .articleId(articleId)
+                    .title(title)
+                    .content(content)
+                    .images(imageDtos)
+                    .isOwner(authorId.equals(viewerId))
+                    .build();
+        }
+    }
+
+    private record CachedImage(Long imageId, String url) {
+        static CachedImage from(ArticleImage image) {
+            return new CachedImage(image.getId(), image.getUrl());
+        }
+    }
+}
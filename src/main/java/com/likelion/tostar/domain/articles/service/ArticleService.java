@@ -17,13 +17,16 @@ public interface ArticleService {
     ResponseEntity<?> deleteArticle(Long articleId, Long userId);
 
     // 나의 추억 조회
-    ResponseEntity<?> getUserArticles(Long userId, int page, int size);
+    ResponseEntity<?> getUserArticles(Long userId, int page, int size, boolean withTotal);
 
     // 특정 친구의 추억 조회
-    ResponseEntity<?> getFriendsArticlesByUserId(Long userId, Long searchId, int page, int size);
+    ResponseEntity<?> getFriendsArticlesByUserId(Long userId, Long searchId, int page, int size, boolean withTotal);
 
     // 특정 사용자들을 제외한 추억 조회
-    ResponseEntity<?> getArticlesWithoutFriends(Long userId, int page, int size);
+    ResponseEntity<?> getArticlesWithoutFriends(Long userId, String cursor, int page, int size);
+
+    // 친구들의 추억 조회 (홈 타임라인)
+    ResponseEntity<?> getTimeline(Long userId, String cursor, int size);
 
     // 추억 상세 조회
     ResponseEntity<?> searchArticleDetail(Long userId, Long articleId);
@@ -1,48 +1,90 @@
 package com.likelion.tostar.domain.articles.service;
 
 import com.likelion.tostar.domain.articles.dto.ArticleCreateModifyRequestDto;
+import com.likelion.tostar.domain.articles.dto.ArticleCursor;
 import com.likelion.tostar.domain.articles.dto.ArticlePostResponseDto;
 import com.likelion.tostar.domain.articles.dto.ArticlePostResponseDto.ImageResponseDto;
 import com.likelion.tostar.domain.articles.dto.ArticleSearchDetailResponseDto;
 import com.likelion.tostar.domain.articles.dto.ArticleSearchListResponseDto;
 import com.likelion.tostar.domain.articles.entity.Article;
 import com.likelion.tostar.domain.articles.entity.ArticleImage;
+import com.likelion.tostar.domain.articles.event.ArticleChangedEvent;
+import com.likelion.tostar.domain.articles.event.ArticleCreatedEvent;
 import com.likelion.tostar.domain.articles.repository.ArticleRepository;
-import com.likelion.tostar.domain.relationship.entity.Relationship;
+import com.likelion.tostar.domain.articles.repository.TimelineRepository;
 import com.likelion.tostar.domain.relationship.repository.RelationshipRepository;
 import com.likelion.tostar.domain.user.entity.User;
 import com.likelion.tostar.domain.user.repository.UserRepository;
 import com.likelion.tostar.global.exception.GeneralException;
 import com.likelion.tostar.global.response.ApiResponse;
+import com.likelion.tostar.global.response.PagingHeaders;
 import com.likelion.tostar.global.enums.statuscode.ErrorStatus;
+import com.likelion.tostar.global.s3.service.S3DeletionOutboxService;
 import com.likelion.tostar.global.s3.service.S3Service;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Service
 @Transactional
-@RequiredArgsConstructor
 public class ArticleServiceImpl implements ArticleService {
 
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
     private final RelationshipRepository relationshipRepository;
     private final S3Service s3Service;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
+    private final TimelineRepository timelineRepository;
+    private final TimelineService timelineService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArticleDetailCache articleDetailCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public ArticleServiceImpl(
+            ArticleRepository articleRepository,
+            UserRepository userRepository,
+            RelationshipRepository relationshipRepository,
+            S3Service s3Service,
+            S3DeletionOutboxService s3DeletionOutboxService,
+            TimelineRepository timelineRepository,
+            TimelineService timelineService,
+            ApplicationEventPublisher eventPublisher,
+            ArticleDetailCache articleDetailCache,
+            PlatformTransactionManager transactionManager) {
+        this.articleRepository = articleRepository;
+        this.userRepository = userRepository;
+        this.relationshipRepository = relationshipRepository;
+        this.s3Service = s3Service;
+        this.s3DeletionOutboxService = s3DeletionOutboxService;
+        this.timelineRepository = timelineRepository;
+        this.timelineService = timelineService;
+        this.eventPublisher = eventPublisher;
+        this.articleDetailCache = articleDetailCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 추억 등록 메서드
+     * S3 업로드는 트랜잭션 밖에서 처리하고 (업로드 동안 DB 커넥션을 잡지 않음) 저장만 짧은 트랜잭션으로 처리
+     * 저장에 실패하면 방금 올린 이미지는 S3에서 삭제
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResponseEntity<?> createArticle(Long userId, ArticleCreateModifyRequestDto articleCreateModifyRequestDto, List<MultipartFile> images) {
         // 404 : 해당 회원이 실제로 존재하는지 확인
         User user = userRepository.findById(userId)
@@ -63,25 +105,37 @@ public class ArticleServiceImpl implements ArticleService {
                     .body(ApiResponse.onFailure(ErrorStatus._ARTICLE_CONTENT_MISSING, null));
         }
 
-        // Article 생성 (이미지 제외)
-        Article article = Article.builder()
-                .user(user)
-                .title(title)
-                .content(content)
-                .build();
-
         // 400 : 이미지가 5개 초과하는 경우
         if (images != null && images.size() > 5) {
             return ResponseEntity.status(400)
                     .body(ApiResponse.onFailure(ErrorStatus._ARTICLE_TOO_MANY_IMAGES, null));
         }
 
-        // S3 이미지 업로드 및 ArticleImage 엔티티 생성
+        // S3 이미지 업로드 및 ArticleImage 엔티티 생성 (트랜잭션 밖)
         List<ArticleImage> articleImages = uploadImages(images);
-        article.updateImages(articleImages);
 
-        // DB에 추억 저장
-        articleRepository.save(article);
+        Article article;
+        try {
+            article = transactionTemplate.execute(status -> {
+                // Article 생성
+                Article newArticle = Article.builder()
+                        .user(user)
+                        .title(title)
+                        .content(content)
+                        .build();
+                newArticle.updateImages(articleImages);
+
+                // DB에 추억 저장
+                articleRepository.save(newArticle);
+
+                // 커밋 후 친구들의 타임라인에 추가
+                eventPublisher.publishEvent(new ArticleCreatedEvent(newArticle.getId(), userId, newArticle.getCreatedAt()));
+                return newArticle;
+            });
+        } catch (RuntimeException e) {
+            deleteUploadedImages(articleImages);
+            throw e;
+        }
 
         // 201 : 추억 생성 성공
         return createArticleResponse(article);
@@ -89,8 +143,11 @@ public class ArticleServiceImpl implements ArticleService {
 
     /**
      * 추억 수정 메서드
+     * 기존 이미지 확인 (읽기 트랜잭션) -> 새 이미지 S3 업로드 (트랜잭션 밖) -> 변경 반영 (쓰기 트랜잭션)
+     * 반영에 실패하면 방금 올린 이미지는 S3에서 삭제
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResponseEntity<?> modifyArticle(Long articleId, Long userId, ArticleCreateModifyRequestDto articleCreateModifyRequestDto, List<MultipartFile> images) {
         // 404 : 해당 회원이 실제로 존재하는지 확인
         User user = userRepository.findById(userId)
@@ -99,26 +156,49 @@ public class ArticleServiceImpl implements ArticleService {
         String title = articleCreateModifyRequestDto.getTitle();
         String content = articleCreateModifyRequestDto.getContent();
 
-        // 404 : 존재하지 않는 추억
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus._ARTICLE_NOT_FOUND));
-
-        // 403 : 추억의 주인이 아님
-        if (!article.getUser().getId().equals(userId)) {
+        // 404 : 존재하지 않는 추억 (기존 이미지 목록도 함께 읽어 둠)
+        List<ArticleImage> existingImages = transactionTemplate.execute(status -> {
+            Article article = articleRepository.findById(articleId)
+                    .orElseThrow(() -> new GeneralException(ErrorStatus._ARTICLE_NOT_FOUND));
+            // 403 : 추억의 주인이 아님
+            if (!article.getUser().getId().equals(userId)) {
+                return null;
+            }
+            return new ArrayList<>(article.getImages());
+        });
+        if (existingImages == null) {
             return ResponseEntity.status(403)
                     .body(ApiResponse.onFailure(ErrorStatus._NOT_OWNER_OF_ARTICLE, null));
         }
 
-        // 추억 수정 (이미지 제외한 정보들 수정)
-        article.updateArticle(title, content);
-
-        // 추억 수정 (기존 이미지 삭제 & 새 이미지 업로드)
-        deleteExistingImages(article);
-        List<ArticleImage> newImages = uploadImages(images);
-        article.updateImages(newImages);
-
-        // DB에 추억 저장
-        articleRepository.save(article);
+        // 변경된 이미지만 S3 업로드 (트랜잭션 밖)
+        ImageChanges imageChanges = planImageChanges(existingImages, articleCreateModifyRequestDto.getKeepImageIds(), images);
+        List<ArticleImage> addedImages = uploadImages(imageChanges.uploadTargets(), imageChanges.uploadHashes());
+
+        Article article;
+        try {
+            article = transactionTemplate.execute(status -> {
+                // 404 : 업로드 중 삭제된 추억
+                Article modifiedArticle = articleRepository.findById(articleId)
+                        .orElseThrow(() -> new GeneralException(ErrorStatus._ARTICLE_NOT_FOUND));
+
+                // 추억 수정 (이미지 제외한 정보들 수정)
+                modifiedArticle.updateArticle(title, content);
+
+                // 추억 수정 (변경된 이미지만 반영)
+                applyImageChanges(modifiedArticle, imageChanges, addedImages);
+
+                // DB에 추억 저장
+                articleRepository.save(modifiedArticle);
+
+                // 커밋 후 상세 조회 캐시 무효화
+                eventPublisher.publishEvent(new ArticleChangedEvent(articleId));
+                return modifiedArticle;
+            });
+        } catch (RuntimeException e) {
+            deleteUploadedImages(addedImages);
+            throw e;
+        }
 
         // 200 : 추억 수정 성공
         return createArticleResponse(article);
@@ -147,9 +227,13 @@ public class ArticleServiceImpl implements ArticleService {
         // S3 삭제
         deleteExistingImages(article);
 
-        // Entity 삭제
+        // Entity 삭제 (타임라인에서도 제거)
+        timelineService.removeArticle(articleId);
         articleRepository.delete(article);
 
+        // 커밋 후 상세 조회 캐시 무효화
+        eventPublisher.publishEvent(new ArticleChangedEvent(articleId));
+
         // 200 : 추억 삭제 성공
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponse.onSuccess("추억 삭제에 성공했습니다."));
@@ -160,13 +244,13 @@ public class ArticleServiceImpl implements ArticleService {
      * 추억 상세 조회
      */
     @Override
+    @Transactional(readOnly = true)
     public ResponseEntity<?> searchArticleDetail(Long userId, Long articleId) {
-        // 404 : 존재하지 않는 추억
-        Article article = articleRepository.findById(articleId)
+        // 404 : 존재하지 않는 추억 (캐시에 없으면 작성자, 이미지 함께 조회 ; isOwner 는 요청마다 계산)
+        ArticleSearchDetailResponseDto responseDto = articleDetailCache
+                .get(articleId, userId, articleRepository::findDetailById)
                 .orElseThrow(() -> new GeneralException(ErrorStatus._ARTICLE_NOT_FOUND));
 
-        ArticleSearchDetailResponseDto responseDto = buildArticleDetailResponse(article, userId);
-
         // 200 : 응답 반환
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponse.onSuccess(responseDto));
@@ -176,7 +260,7 @@ public class ArticleServiceImpl implements ArticleService {
      * 나의 게시글을 최신순으로 조회
      */
     @Override
-    public ResponseEntity<?> getUserArticles(Long userId, int page, int size) {
+    public ResponseEntity<?> getUserArticles(Long userId, int page, int size, boolean withTotal) {
         // 404 : 토큰에 해당하는 회원이 실제로 존재하는지 확인
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus._USER_NOT_FOUND));
@@ -184,18 +268,21 @@ public class ArticleServiceImpl implements ArticleService {
         // 페이지 처리
         PageRequest pageRequest = PageRequest.of(page, size); // page, size 설정
 
-        // DB 검색 - 나의 게시글 조회(최신순)
-        Page<Article> articlePage = articleRepository.findAllByUserId(user.getId(), pageRequest);
+        // DB 검색 - 나의 게시글 조회(최신순) ; 전체 개수가 필요한 경우만 COUNT 쿼리
+        Slice<Article> articleSlice = withTotal
+                ? articleRepository.findAllByUserId(user.getId(), pageRequest)
+                : articleRepository.findSliceByUserId(user.getId(), pageRequest);
 
         // 게시글 정보 빌드 (response.result)
         List<ArticleSearchListResponseDto> responseDtos = new ArrayList<>();
-        for (Article article : articlePage.getContent()) {
+        for (Article article : articleSlice.getContent()) {
             ArticleSearchListResponseDto responseDto = buildArticleListResponse(article, userId);
             responseDtos.add(responseDto);
         }
 
-        // 응답 반환
+        // 응답 반환 (페이징 정보는 헤더로)
         return ResponseEntity.status(HttpStatus.OK)
+                .headers(PagingHeaders.of(articleSlice))
                 .body(ApiResponse.onSuccess(responseDtos));
     }
 
@@ -204,7 +291,7 @@ public class ArticleServiceImpl implements ArticleService {
      * 특정 친구의 게시글을 최신순으로 조회
      */
     @Override
-    public ResponseEntity<?> getFriendsArticlesByUserId(Long userId, Long searchId, int page, int size) {
+    public ResponseEntity<?> getFriendsArticlesByUserId(Long userId, Long searchId, int page, int size, boolean withTotal) {
         // 404 : 토큰에 해당하는 회원이 실제로 존재하는지 확인
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus._USER_NOT_FOUND));
@@ -212,82 +299,243 @@ public class ArticleServiceImpl implements ArticleService {
         // 페이지 처리
         PageRequest pageRequest = PageRequest.of(page, size); // page, size 설정
 
-        // DB 검색 - searchId의 게시글 조회(최신순)
-        Page<Article> articlePage = articleRepository.findAllByUserId(searchId, pageRequest);
+        // DB 검색 - searchId의 게시글 조회(최신순) ; 전체 개수가 필요한 경우만 COUNT 쿼리
+        Slice<Article> articleSlice = withTotal
+                ? articleRepository.findAllByUserId(searchId, pageRequest)
+                : articleRepository.findSliceByUserId(searchId, pageRequest);
 
         // 게시글 정보 빌드 (response.result)
         List<ArticleSearchListResponseDto> responseDtos = new ArrayList<>();
-        for (Article article : articlePage.getContent()) {
+        for (Article article : articleSlice.getContent()) {
             ArticleSearchListResponseDto responseDto = buildArticleListResponse(article, userId);
             responseDtos.add(responseDto);
         }
 
-        // 응답 반환
+        // 응답 반환 (페이징 정보는 헤더로)
         return ResponseEntity.status(HttpStatus.OK)
+                .headers(PagingHeaders.of(articleSlice))
                 .body(ApiResponse.onSuccess(responseDtos));
     }
 
 
     /**
      * 나와 친구를 제외한 친구들의 추억 조회
+     * cursor 가 있으면 (created_at, id) 커서 페이징, 없으면 page 기준 조회 (첫 페이지 또는 기존 클라이언트)
      */
     @Override
-    public ResponseEntity<?> getArticlesWithoutFriends(Long userId, int page, int size) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getArticlesWithoutFriends(Long userId, String cursor, int page, int size) {
         // 404 : 토큰에 해당하는 회원이 실제로 존재하는지 확인
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus._USER_NOT_FOUND));
-
-        // 검색에서 제외할 목록의 Id 리스트 생성
-        List<Long> excludingIds = getFriendIds(userId); // 친구 제외
-        System.out.println("excludingIds: "+excludingIds);
-        excludingIds.add(userId); // 자기 자신도 제외
-        System.out.println("excludingIds: "+excludingIds);
-
-        // 페이지 처리
-        PageRequest pageRequest = PageRequest.of(page, size);
+        if (!userRepository.existsById(userId)) {
+            throw new GeneralException(ErrorStatus._USER_NOT_FOUND);
+        }
 
-        // DB 검색 - 나와 친구를 제외한 게시글 조회 (최신순)
-        Page<Article> articlePage = articleRepository.findArticlesExcludingUsers(excludingIds, pageRequest);
+        // DB 검색 - 나와 친구를 제외한 게시글 조회 (최신순, 친구 제외는 DB 에서 anti-join)
+        Slice<Article> articleSlice;
+        if (cursor != null) {
+            ArticleCursor articleCursor = ArticleCursor.decode(cursor);
+            articleSlice = articleRepository.findExploreArticlesBefore(
+                    userId, articleCursor.createdAt(), articleCursor.id(), PageRequest.ofSize(size));
+        } else {
+            articleSlice = articleRepository.findExploreArticles(userId, PageRequest.of(page, size));
+        }
 
         // 게시글 정보 빌드 (response.result)
         List<ArticleSearchListResponseDto> responseDtos = new ArrayList<>();
-        for (Article article : articlePage.getContent()) {
+        for (Article article : articleSlice.getContent()) {
             // article을 가지고 ArticleSearchListResponseDto 빌드
             ArticleSearchListResponseDto responseDto = buildArticleListResponse(article, userId);
             responseDtos.add(responseDto);
         }
 
-        // 응답 반환
+        // 다음 페이지 커서 : 이번 페이지 마지막 게시글
+        String nextCursor = null;
+        if (articleSlice.hasContent()) {
+            Article last = articleSlice.getContent().get(articleSlice.getNumberOfElements() - 1);
+            nextCursor = new ArticleCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        // 응답 반환 (페이징 정보는 헤더로)
+        return ResponseEntity.status(HttpStatus.OK)
+                .headers(PagingHeaders.of(articleSlice, nextCursor))
+                .body(ApiResponse.onSuccess(responseDtos));
+    }
+
+
+    /**
+     * 친구들의 추억 최신순 조회 (홈 타임라인)
+     * 미리 계산된 타임라인 사용, 친구가 매우 많거나 타임라인이 아직 없으면 직접 조회
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getTimeline(Long userId, String cursor, int size) {
+        // 404 : 토큰에 해당하는 회원이 실제로 존재하는지 확인
+        if (!userRepository.existsById(userId)) {
+            throw new GeneralException(ErrorStatus._USER_NOT_FOUND);
+        }
+        ArticleCursor articleCursor = (cursor != null) ? ArticleCursor.decode(cursor) : null;
+        PageRequest pageRequest = PageRequest.ofSize(size);
+
+        boolean fanOutOnRead = timelineService.isFanOutOnRead(userId);
+        if (!fanOutOnRead && !timelineService.isMaterialized(userId)) {
+            // 타임라인 생성 완료 전 : 이번 요청은 직접 조회, 타임라인은 비동기 생성 (생성 중이면 무시됨)
+            timelineService.rebuild(userId);
+            fanOutOnRead = true;
+        }
+
+        Slice<Article> articleSlice;
+        if (fanOutOnRead) {
+            articleSlice = (articleCursor == null)
+                    ? articleRepository.findFriendArticles(userId, pageRequest)
+                    : articleRepository.findFriendArticlesBefore(
+                            userId, articleCursor.createdAt(), articleCursor.id(), pageRequest);
+        } else {
+            articleSlice = (articleCursor == null)
+                    ? timelineRepository.findTimeline(userId, pageRequest)
+                    : timelineRepository.findTimelineBefore(
+                            userId, articleCursor.createdAt(), articleCursor.id(), pageRequest);
+        }
+
+        // 게시글 정보 빌드 (response.result)
+        List<ArticleSearchListResponseDto> responseDtos = new ArrayList<>();
+        for (Article article : articleSlice.getContent()) {
+            responseDtos.add(buildArticleListResponse(article, userId));
+        }
+
+        // 다음 페이지 커서 : 이번 페이지 마지막 게시글
+        String nextCursor = null;
+        if (articleSlice.hasContent()) {
+            Article last = articleSlice.getContent().get(articleSlice.getNumberOfElements() - 1);
+            nextCursor = new ArticleCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        // 응답 반환 (페이징 정보는 헤더로)
         return ResponseEntity.status(HttpStatus.OK)
+                .headers(PagingHeaders.of(articleSlice, nextCursor))
                 .body(ApiResponse.onSuccess(responseDtos));
     }
 
 
     // ============================ 편의 메서드 =============================
 
-    // 추억의 기존 이미지 삭제 메서드
+    // 추억의 기존 이미지 삭제 메서드 (S3 삭제는 outbox 에 기록 후 커밋되면 백그라운드에서 처리)
     private void deleteExistingImages(Article article) {
-        for (ArticleImage existingImage : article.getImages()) {
-            s3Service.deleteFileByURL(existingImage.getUrl()); // S3에서 이미지 삭제
-        }
+        s3DeletionOutboxService.enqueueAll(article.getImages().stream().map(ArticleImage::getUrl).toList());
         article.getImages().clear(); // article의 article_image 삭제
     }
 
-    // S3 이미지 업로드 후 articleImages 반환 메서드
+    // S3 이미지 병렬 업로드 후 articleImages 반환 메서드 (URL 순서 = 이미지 순서)
     private List<ArticleImage> uploadImages(List<MultipartFile> images) {
+        List<String> contentHashes = new ArrayList<>();
+        if (images != null) {
+            for (MultipartFile image : images) {
+                contentHashes.add(s3Service.hashContent(image));
+            }
+        }
+        return uploadImages(images, contentHashes);
+    }
+
+    private List<ArticleImage> uploadImages(List<MultipartFile> images, List<String> contentHashes) {
+        List<String> imageUrls = s3Service.uploadFiles(images);
+
         List<ArticleImage> articleImages = new ArrayList<>();
-        if (images != null && !images.isEmpty()) {
+        for (int i = 0; i < imageUrls.size(); i++) {
+            articleImages.add(ArticleImage.builder()
+                    .url(imageUrls.get(i))
+                    .contentHash(contentHashes.get(i))
+                    .build());
+        }
+        return articleImages;
+    }
+
+    // 추억 이미지 수정 계획
+    // slotImageIds : 최종 순서대로 재사용할 기존 이미지 id (새로 올릴 자리는 null)
+    private record ImageChanges(List<Long> slotImageIds, List<MultipartFile> uploadTargets, List<String> uploadHashes) {
+    }
+
+    // 유지 요청(id)이나 내용 해시가 같은 기존 이미지는 재사용, 나머지만 업로드 대상
+    // 최종 순서는 요청 순서 : 유지 요청 id 순서 -> 업로드 파일 순서 (해시가 같아 재사용한 이미지도 파일 자리에)
+    private ImageChanges planImageChanges(List<ArticleImage> existingImages, List<Long> keepImageIds, List<MultipartFile> images) {
+        Map<Long, ArticleImage> existingById = new HashMap<>();
+        for (ArticleImage existingImage : existingImages) {
+            existingById.put(existingImage.getId(), existingImage);
+        }
+
+        List<Long> slotImageIds = new ArrayList<>();
+        if (keepImageIds != null) {
+            for (Long keepImageId : keepImageIds) {
+                ArticleImage keptImage = existingById.remove(keepImageId);
+                if (keptImage != null) {
+                    slotImageIds.add(keptImage.getId());
+                }
+            }
+        }
+
+        Map<String, ArticleImage> reusableImages = new HashMap<>();
+        for (ArticleImage existingImage : existingImages) {
+            if (existingById.containsKey(existingImage.getId()) && existingImage.getContentHash() != null) {
+                reusableImages.putIfAbsent(existingImage.getContentHash(), existingImage);
+            }
+        }
+
+        // 새로 올릴 파일은 자리만 잡아두고 업로드 후 채움
+        List<MultipartFile> uploadTargets = new ArrayList<>();
+        List<String> uploadHashes = new ArrayList<>();
+        if (images != null) {
             for (MultipartFile image : images) {
-                try {
-                    String imageUrl = s3Service.uploadFile(image);
-                    ArticleImage articleImage = ArticleImage.builder().url(imageUrl).build();
-                    articleImages.add(articleImage);
-                } catch (IOException e) {
-                    throw new GeneralException(ErrorStatus._S3_UPLOAD_FAIL);
+                String contentHash = s3Service.hashContent(image);
+                ArticleImage sameImage = reusableImages.remove(contentHash);
+                if (sameImage != null) {
+                    slotImageIds.add(sameImage.getId());
+                } else {
+                    slotImageIds.add(null);
+                    uploadTargets.add(image);
+                    uploadHashes.add(contentHash);
                 }
             }
         }
-        return articleImages;
+        return new ImageChanges(slotImageIds, uploadTargets, uploadHashes);
+    }
+
+    // 추억 이미지 수정 반영 ; 빠진 이미지만 S3에서 삭제
+    // 업로드 중 다른 요청이 지운 기존 이미지는 건너뜀
+    private void applyImageChanges(Article article, ImageChanges imageChanges, List<ArticleImage> addedImages) {
+        Map<Long, ArticleImage> currentById = new HashMap<>();
+        for (ArticleImage currentImage : article.getImages()) {
+            currentById.put(currentImage.getId(), currentImage);
+        }
+
+        List<ArticleImage> orderedImages = new ArrayList<>();
+        int addedIndex = 0;
+        for (Long slotImageId : imageChanges.slotImageIds()) {
+            if (slotImageId == null) {
+                orderedImages.add(addedImages.get(addedIndex++));
+            } else if (currentById.containsKey(slotImageId)) {
+                orderedImages.add(currentById.get(slotImageId));
+            }
+        }
+
+        List<String> removedUrls = new ArrayList<>();
+        for (ArticleImage currentImage : article.getImages()) {
+            if (!orderedImages.contains(currentImage)) {
+                removedUrls.add(currentImage.getUrl());
+            }
+        }
+        article.replaceImages(orderedImages);
+
+        // 빠진 이미지는 outbox 에 기록 (같은 트랜잭션으로 커밋되어야 S3에서 삭제)
+        s3DeletionOutboxService.enqueueAll(removedUrls);
+    }
+
+    // DB 반영 실패 시 방금 올린 이미지 정리
+    private void deleteUploadedImages(List<ArticleImage> uploadedImages) {
+        for (ArticleImage uploadedImage : uploadedImages) {
+            try {
+                s3Service.deleteFileByURL(uploadedImage.getUrl());
+            } catch (GeneralException e) {
+                log.warn("추억 저장 실패 후 S3 이미지 정리 실패 : {}", uploadedImage.getUrl());
+            }
+        }
     }
 
     // (추억 등록, 수정 성공) 응답 반환 메서드
@@ -313,27 +561,6 @@ public class ArticleServiceImpl implements ArticleService {
         return ResponseEntity.status(200).body(ApiResponse.onSuccess(responseDto));
     }
 
-    // article -> ArticleSearchDetailResponseDto 빌드해주는 메서드
-    private ArticleSearchDetailResponseDto buildArticleDetailResponse(Article article, Long userId) {
-        // 이미지 리스트 빌드 - images
-        List<ArticleSearchListResponseDto.ImageDto> imageDtos = new ArrayList<>();
-        for (ArticleImage image : article.getImages()) {
-            ArticleSearchListResponseDto.ImageDto imageDto = ArticleSearchListResponseDto.ImageDto.builder()
-                    .imageId(image.getId())
-                    .url(image.getUrl())
-                    .build();
-            imageDtos.add(imageDto);
-        }
-        // ArticleSearchDetailResponseDto 빌드
-        return ArticleSearchDetailResponseDto.builder()
-                .articleId(article.getId())
-                .title(article.getTitle())
-                .content(article.getContent())
-                .images(imageDtos)
-                .isOwner(article.getUser().getId().equals(userId))
-                .build();
-    }
-
     // article -> ArticleSearchListResponseDto 빌드해주는 메서드
     private ArticleSearchListResponseDto buildArticleListResponse(Article article, Long userId) {
         // 작성자 정보 빌드 - author
@@ -370,19 +597,6 @@ public class ArticleServiceImpl implements ArticleService {
                 .build();
     }
 
-    // 친구 목록(id) 가져오는 메서드
-    public List<Long> getFriendIds(Long userId) {
-        //user = follower
-        List<Relationship> relationships = relationshipRepository.findAllByFollower_Id(userId);
-        List<Long> friendIds = new ArrayList<>();
-
-        // followee의 ID를 추출
-        for (Relationship relationship : relationships) {
-            friendIds.add(relationship.getFollowee().getId());
-        }
-        return friendIds;
-    }
-
 
 
 }
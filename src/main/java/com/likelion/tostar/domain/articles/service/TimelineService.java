@@ -0,0 +1,142 @@
+package com.likelion.tostar.domain.articles.service;
+
+import com.likelion.tostar.domain.articles.event.ArticleCreatedEvent;
+import com.likelion.tostar.domain.articles.repository.TimelineRepository;
+import com.likelion.tostar.domain.articles.repository.TimelineStateRepository;
+import com.likelion.tostar.domain.relationship.entity.Relationship;
+import com.likelion.tostar.domain.relationship.event.FriendAddedEvent;
+import com.likelion.tostar.domain.relationship.event.FriendRemovedEvent;
+import com.likelion.tostar.domain.relationship.repository.RelationshipRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 홈 타임라인 적재 / 정리 (fan-out-on-write)
+ * - 추억 등록 커밋 후 : 작성자를 친구로 둔 사용자 타임라인에 추가 (비동기)
+ * - 친구 추가 커밋 후 : 친구의 최근 추억을 타임라인에 채움 (비동기)
+ * - 추억 삭제, 친구 삭제 : 같은 트랜잭션에서 정리
+ * 친구 수가 timeline.fan-out-on-read-threshold 를 넘는 사용자는 타임라인을 만들지 않고 조회 시 직접 계산
+ * 타임라인은 rebuild 가 TimelineState 에 생성 완료를 기록한 뒤부터 조회에 사용 (그 전에는 직접 계산)
+ */
+@Slf4j
+@Service
+public class TimelineService {
+    private final TimelineRepository timelineRepository;
+    private final TimelineStateRepository timelineStateRepository;
+    private final RelationshipRepository relationshipRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long fanOutOnReadThreshold;
+    private final int backfillPerFriend;
+    private final Duration rebuildTimeout;
+
+    public TimelineService(
+            TimelineRepository timelineRepository,
+            TimelineStateRepository timelineStateRepository,
+            RelationshipRepository relationshipRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${timeline.fan-out-on-read-threshold:500}") long fanOutOnReadThreshold,
+            @Value("${timeline.backfill-per-friend:50}") int backfillPerFriend,
+            @Value("${timeline.rebuild-timeout-ms:600000}") long rebuildTimeoutMs) {
+        this.timelineRepository = timelineRepository;
+        this.timelineStateRepository = timelineStateRepository;
+        this.relationshipRepository = relationshipRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fanOutOnReadThreshold = fanOutOnReadThreshold;
+        this.backfillPerFriend = backfillPerFriend;
+        this.rebuildTimeout = Duration.ofMillis(rebuildTimeoutMs);
+    }
+
+    /**
+     * 타임라인을 쓰지 않고 조회 시 직접 계산할 사용자인지 여부
+     */
+    public boolean isFanOutOnRead(Long userId) {
+        return relationshipRepository.countByFollower_Id(userId) > fanOutOnReadThreshold;
+    }
+
+    /**
+     * 타임라인 생성이 끝나 조회에 사용할 수 있는지 여부
+     */
+    public boolean isMaterialized(Long userId) {
+        return timelineStateRepository.existsByOwnerIdAndMaterializedAtIsNotNull(userId);
+    }
+
+    @Async("timelineExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleArticleCreated(ArticleCreatedEvent event) {
+        int inserted = timelineRepository.fanOut(
+                event.articleId(), event.authorId(), event.createdAt(), fanOutOnReadThreshold);
+        log.debug("타임라인 fan-out : articleId={}, {}명", event.articleId(), inserted);
+    }
+
+    @Async("timelineExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleFriendAdded(FriendAddedEvent event) {
+        Long ownerId = event.followerId();
+        if (relationshipRepository.countByFollower_Id(ownerId) > fanOutOnReadThreshold) {
+            // 기준을 넘으면 타임라인은 더 이상 갱신되지 않으므로 제거 (이미 제거된 경우 지울 행 없음)
+            // 기준 이하로 내려오면 조회 시 rebuild 로 다시 생성
+            timelineStateRepository.deleteByOwnerId(ownerId);
+            timelineRepository.deleteByOwnerId(ownerId);
+            return;
+        }
+        if (!timelineStateRepository.existsById(ownerId)) {
+            // 타임라인 생성 전 : rebuild 가 친구 전체를 채움
+            return;
+        }
+        timelineRepository.backfill(ownerId, event.followeeId(), backfillPerFriend);
+    }
+
+    @EventListener
+    public void handleFriendRemoved(FriendRemovedEvent event) {
+        timelineRepository.deleteByOwnerIdAndAuthorId(event.followerId(), event.followeeId());
+    }
+
+    /**
+     * 추억 삭제 시 모든 타임라인에서 제거 (호출한 트랜잭션에 참여)
+     */
+    public void removeArticle(Long articleId) {
+        timelineRepository.deleteByArticleId(articleId);
+    }
+
+    /**
+     * 타임라인이 아직 없는 사용자(기능 도입 전 친구, 기준 이하로 내려온 사용자) 타임라인 생성
+     * 1. 생성 시작 기록 (별도 트랜잭션 커밋) -> 이후 등록되는 추억 / 추가되는 친구는 fan-out, backfill 로 반영
+     * 2. 친구 전체 backfill 후 생성 완료 기록 -> 이때부터 조회에 사용
+     * 이미 생성 중이거나 완료된 사용자는 시작 기록에서 걸러지므로 조회마다 호출해도 한 번만 생성
+     */
+    @Async("timelineExecutor")
+    public void rebuild(Long userId) {
+        if (isFanOutOnRead(userId) || !claimRebuild(userId)) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Relationship relationship : relationshipRepository.findAllByFollower_Id(userId)) {
+                timelineRepository.backfill(userId, relationship.getFollowee().getId(), backfillPerFriend);
+            }
+            timelineStateRepository.markMaterialized(userId, LocalDateTime.now());
+        });
+        log.debug("타임라인 생성 완료 : userId={}", userId);
+    }
+
+    // 생성 시작 기록 : 처음이거나, 이전 생성이 rebuildTimeout 안에 끝나지 않은 경우(중단)에만 true
+    private boolean claimRebuild(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+                timelineStateRepository.claim(userId, now)
+                        + timelineStateRepository.reclaimStale(userId, now, now.minus(rebuildTimeout)));
+        return claimed != null && claimed > 0;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -19,4 +20,27 @@ public class ChatController {
     public ResponseEntity<?> getAllCommunityChats(@PathVariable("communityId") Long communityId) {
         return communityChatQueryService.getAllCommunityChats(communityId);
     }
+
+    /**
+     * 채팅 내역 커서 페이징 조회
+     * 최초 입장 : before/after 없이 요청 -> 최근 채팅
+     * 위로 스크롤 : before={cursor}, 재연결 후 누락분 : after={마지막으로 받은 chatId}
+     */
+    @GetMapping("/{communityId}/history")
+    public ResponseEntity<?> getCommunityChatHistory(
+            @PathVariable("communityId") Long communityId,
+            @RequestParam(value = "before", required = false) Long before,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "size", defaultValue = "30") int size) {
+        return communityChatQueryService.getCommunityChatHistory(communityId, before, after, size);
+    }
+
+    /**
+     * 채팅방 실시간 접속자 조회
+     * 이후 변경 사항은 /topic/chatroom/{communityId}/presence 구독으로 수신
+     */
+    @GetMapping("/{communityId}/presence")
+    public ResponseEntity<?> getCommunityPresence(@PathVariable("communityId") Long communityId) {
+        return communityChatQueryService.getCommunityPresence(communityId);
+    }
 }
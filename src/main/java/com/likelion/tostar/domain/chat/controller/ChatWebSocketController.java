@@ -2,7 +2,7 @@ package com.likelion.tostar.domain.chat.controller;
 
 import com.likelion.tostar.domain.chat.dto.CommunityChatRequestDTO;
 import com.likelion.tostar.domain.chat.service.CommunityChatCommandService;
-import com.likelion.tostar.global.jwt.util.JwtUtil;
+import com.likelion.tostar.global.socket.dto.ChatSessionUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -16,20 +16,18 @@ import org.springframework.stereotype.Controller;
 public class ChatWebSocketController {
 
     private final CommunityChatCommandService communityChatCommandService;
-    private final JwtUtil jwtUtil;
 
     // Client 요청 에시
-    // stompClient.send(`/app/chat.sendMessage`, { 'Authorization': jwtToken }, JSON.stringify(chatMessage));
+    // stompClient.send(`/app/chat.sendMessage`, {}, JSON.stringify(chatMessage)); // 인증은 CONNECT 시 1회
     @MessageMapping("/chat.sendMessage")
     public void sendMessage(@Payload CommunityChatRequestDTO messageDTO, SimpMessageHeaderAccessor headerAccessor) {
-        String email = jwtUtil.getEmailFromJWT(headerAccessor.getFirstNativeHeader("Authorization"));
-        communityChatCommandService.sendMessage(messageDTO, email);
+        // CONNECT 시 인증된 세션 사용자 (토큰 재검증, 사용자 재조회 없음)
+        communityChatCommandService.sendMessage(messageDTO, ChatSessionUser.from(headerAccessor));
     }
 
     @MessageMapping("/chat.enter")
     public void enterChatRoom(@Payload CommunityChatRequestDTO messageDTO, SimpMessageHeaderAccessor headerAccessor) {
-        String email = jwtUtil.getEmailFromJWT(headerAccessor.getFirstNativeHeader("Authorization"));
-        communityChatCommandService.enterChatRoom(messageDTO.getChatRoomId(), email);
+        communityChatCommandService.enterChatRoom(messageDTO.getChatRoomId(), ChatSessionUser.from(headerAccessor));
     }
 }
 
@@ -1,30 +1,39 @@
 package com.likelion.tostar.domain.chat.converter;
 
+import com.likelion.tostar.domain.chat.dto.ChatPresenceResponseDTO;
+import com.likelion.tostar.domain.chat.dto.ChatPresenceUserDTO;
+import com.likelion.tostar.domain.chat.dto.CommunityChatHistoryResponseDTO;
 import com.likelion.tostar.domain.chat.dto.CommunityChatResponseDTO;
 import com.likelion.tostar.domain.chat.entity.CommunityChat;
-import com.likelion.tostar.domain.chat.entity.enums.MessageType;
 import com.likelion.tostar.domain.user.entity.User;
+import com.likelion.tostar.global.socket.dto.ChatSessionUser;
+import java.util.List;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class ChatConverter {
     /**
-     * 구독 발송용 메시지 생성
+     * 저장된 채팅 -> 반환용 메시지 (chatId 포함)
      */
-    public CommunityChatResponseDTO toCommunityChatResponseDTO(
-            String message, MessageType messageType, User sender) {
+    public CommunityChatResponseDTO toCommunityChatResponseDTO(CommunityChat communityChat) {
+        User sender = communityChat.getSender();
         return CommunityChatResponseDTO.builder()
+                .chatId(communityChat.getId())
                 .petName(sender.getPetName())
                 .profileImage(sender.getProfileImage())
-                .messageType(messageType)
+                .messageType(communityChat.getType())
                 .email(sender.getEmail())
-                .content(message)
+                .content(communityChat.getContent())
                 .build();
     }
 
-    public CommunityChatResponseDTO toCommunityChatResponseDTO(CommunityChat communityChat) {
-        User sender = communityChat.getSender();
+    /**
+     * 새 채팅 -> 반환용 메시지 (송신자 정보는 STOMP 세션 값 사용, User 조회 없음)
+     */
+    public CommunityChatResponseDTO toCommunityChatResponseDTO(CommunityChat communityChat,
+                                                               ChatSessionUser sender) {
         return CommunityChatResponseDTO.builder()
+                .chatId(communityChat.getId())
                 .petName(sender.getPetName())
                 .profileImage(sender.getProfileImage())
                 .messageType(communityChat.getType())
@@ -32,4 +41,39 @@ public class ChatConverter {
                 .content(communityChat.getContent())
                 .build();
     }
+
+    /**
+     * 채팅 내역 페이지 반환용
+     */
+    public CommunityChatHistoryResponseDTO toCommunityChatHistoryResponseDTO(
+            List<CommunityChatResponseDTO> chats, boolean hasMore, Long cursor) {
+        return CommunityChatHistoryResponseDTO.builder()
+                .chats(chats)
+                .hasMore(hasMore)
+                .cursor(cursor)
+                .build();
+    }
+
+    /**
+     * 세션 사용자 -> 접속 사용자 정보
+     */
+    public ChatPresenceUserDTO toChatPresenceUserDTO(ChatSessionUser sessionUser) {
+        return ChatPresenceUserDTO.builder()
+                .userId(sessionUser.getUserId())
+                .email(sessionUser.getEmail())
+                .petName(sessionUser.getPetName())
+                .profileImage(sessionUser.getProfileImage())
+                .build();
+    }
+
+    /**
+     * 채팅방 접속 현황 반환용
+     */
+    public ChatPresenceResponseDTO toChatPresenceResponseDTO(Long communityId, List<ChatPresenceUserDTO> users) {
+        return ChatPresenceResponseDTO.builder()
+                .communityId(communityId)
+                .onlineCount(users.size())
+                .users(users)
+                .build();
+    }
 }
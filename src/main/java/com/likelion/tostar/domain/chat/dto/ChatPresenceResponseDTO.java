@@ -0,0 +1,16 @@
+package com.likelion.tostar.domain.chat.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 채팅방 접속 현황 반환용
+ */
+@Data
+@Builder
+public class ChatPresenceResponseDTO {
+    private Long communityId;
+    private Integer onlineCount; // 접속 중인 사용자 수 (한 사용자의 여러 세션은 1명)
+    private List<ChatPresenceUserDTO> users;
+}
@@ -0,0 +1,16 @@
+package com.likelion.tostar.domain.chat.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 채팅방 접속 중인 사용자
+ */
+@Data
+@Builder
+public class ChatPresenceUserDTO {
+    private Long userId;
+    private String email;
+    private String petName;
+    private String profileImage;
+}
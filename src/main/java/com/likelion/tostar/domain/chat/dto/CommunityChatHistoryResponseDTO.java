@@ -0,0 +1,16 @@
+package com.likelion.tostar.domain.chat.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 채팅 내역 커서 페이징 반환용
+ */
+@Data
+@Builder
+public class CommunityChatHistoryResponseDTO {
+    private List<CommunityChatResponseDTO> chats; // 오래된 순 정렬
+    private Boolean hasMore; // 조회 방향으로 더 불러올 채팅 존재 여부
+    private Long cursor; // 다음 요청에 before/after 로 전달할 chatId
+}
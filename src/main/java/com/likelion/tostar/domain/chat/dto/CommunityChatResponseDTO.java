@@ -1,15 +1,21 @@
 package com.likelion.tostar.domain.chat.dto;
 
 import com.likelion.tostar.domain.chat.entity.enums.MessageType;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 /**
  * 새로운 메시지 반환용
+ * (CommunityChatRepository 의 JPQL 생성자 조회에서 사용하므로 필드 순서 변경 시 쿼리도 함께 수정)
  */
 @Data
 @Builder
+@AllArgsConstructor
 public class CommunityChatResponseDTO {
+    // 채팅 기본키 (커서 페이징 기준)
+    // 재연결 재전송과 실시간 전달이 겹치면 같은 채팅이 두 번 올 수 있으므로 클라이언트는 이 값으로 중복 제거
+    private Long chatId;
     private String email; // 송신자 정보
     private String petName; // 송신자 애완동물 이름
     private MessageType messageType;
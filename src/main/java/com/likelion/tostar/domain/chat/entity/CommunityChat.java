@@ -9,24 +9,31 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.LocalDateTime;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "community_chat")
-public class CommunityChat extends BaseEntity {
+@Table(name = "community_chat", indexes = {
+        // 채팅방별 커서 페이징 조회용 (community_id, community_chat_id) 범위 탐색
+        @Index(name = "idx_community_chat_community_id", columnList = "community_id, community_chat_id")
+})
+public class CommunityChat extends BaseEntity implements Persistable<Long> {
+    // IDENTITY 는 INSERT 마다 키를 받아와야 해서 JDBC batch 가 불가능
+    // -> CommunityChatIdGenerator 가 시간순으로 증가하는 id 를 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "community_chat_id")
     private Long id;
     private String content; // 채팅 메시지
@@ -43,13 +50,38 @@ public class CommunityChat extends BaseEntity {
     @JoinColumn(name = "community_id")
     private Community community;
 
-    public static CommunityChat toCommunityChat(String content, MessageType messageType,
+    // id 를 직접 할당하므로 신규 여부를 따로 관리 (save 시 SELECT 후 merge 대신 바로 persist)
+    @Transient
+    @Builder.Default
+    private boolean newChat = true;
+
+    public static CommunityChat toCommunityChat(Long id, String content, MessageType messageType,
                                          Community community, User sender) {
         return CommunityChat.builder()
+                .id(id)
                 .content(content)
                 .community(community)
                 .sender(sender)
                 .type(messageType)
                 .build();
     }
+
+    @Override
+    public boolean isNew() {
+        return newChat;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newChat = false;
+    }
+
+    /**
+     * 저장이 rollback 된 뒤 다시 저장할 때 호출
+     * flush 중 @PostPersist 로 이미 신규가 아니게 표시되어, 그대로 재시도하면 SELECT 후 merge 로 처리됨
+     */
+    public void markNew() {
+        this.newChat = true;
+    }
 }
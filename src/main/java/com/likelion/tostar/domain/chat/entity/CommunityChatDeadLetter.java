@@ -0,0 +1,51 @@
+package com.likelion.tostar.domain.chat.entity;
+
+import com.likelion.tostar.domain.chat.entity.enums.MessageType;
+import com.likelion.tostar.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * write-behind 저장에 끝내 실패한 채팅 (재시도 + 건별 저장까지 실패)
+ * 이미 전송 완료 응답을 받은 채팅이 유실되지 않도록 원본 값을 FK 없이 보관 ; 원인 확인 후 수동 복구
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "community_chat_dead_letter")
+public class CommunityChatDeadLetter extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "community_chat_id")
+    private Long chatId;
+
+    @Column(name = "community_id")
+    private Long communityId;
+
+    @Column(name = "sender_id")
+    private Long senderId;
+
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    private MessageType type;
+
+    @Column(name = "error", length = 1000)
+    private String error;
+
+    public static CommunityChatDeadLetter of(CommunityChat chat, Exception cause) {
+        String error = String.valueOf(cause);
+        return CommunityChatDeadLetter.builder()
+                .chatId(chat.getId())
+                .communityId(chat.getCommunity() == null ? null : chat.getCommunity().getId())
+                .senderId(chat.getSender() == null ? null : chat.getSender().getId())
+                .content(chat.getContent())
+                .type(chat.getType())
+                .error(error.length() > 1000 ? error.substring(0, 1000) : error)
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.likelion.tostar.domain.chat.repository;
+
+import com.likelion.tostar.domain.chat.entity.CommunityChatDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CommunityChatDeadLetterRepository extends JpaRepository<CommunityChatDeadLetter, Long> {
+}
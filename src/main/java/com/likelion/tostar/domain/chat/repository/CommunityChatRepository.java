@@ -1,10 +1,34 @@
 package com.likelion.tostar.domain.chat.repository;
 
+import com.likelion.tostar.domain.chat.dto.CommunityChatResponseDTO;
 import com.likelion.tostar.domain.chat.entity.CommunityChat;
-import com.likelion.tostar.domain.community.entity.Community;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommunityChatRepository extends JpaRepository<CommunityChat,Long> {
-    List<CommunityChat> findByCommunity(Community community);
+    // 반환용 DTO 로 바로 조회 : 송신자(User) 정보를 같은 쿼리에서 필요한 컬럼만 JOIN (채팅마다 User 조회하는 N+1 방지)
+    String CHAT_RESPONSE_SELECT = "SELECT new com.likelion.tostar.domain.chat.dto.CommunityChatResponseDTO("
+            + "c.id, s.email, s.petName, c.type, s.profileImage, c.content) "
+            + "FROM CommunityChat c LEFT JOIN c.sender s ";
+
+    @Query(CHAT_RESPONSE_SELECT + "WHERE c.community.id = :communityId ORDER BY c.id ASC")
+    List<CommunityChatResponseDTO> findChatResponsesByCommunityId(@Param("communityId") Long communityId);
+
+    // 커서 페이징 : (community_id, community_chat_id) 인덱스 범위 탐색, OFFSET/COUNT 없음
+    // 가장 최근 채팅부터 역순 조회
+    @Query(CHAT_RESPONSE_SELECT + "WHERE c.community.id = :communityId ORDER BY c.id DESC")
+    List<CommunityChatResponseDTO> findLatestChats(@Param("communityId") Long communityId, Pageable pageable);
+
+    // before 보다 이전 채팅 역순 조회
+    @Query(CHAT_RESPONSE_SELECT + "WHERE c.community.id = :communityId AND c.id < :before ORDER BY c.id DESC")
+    List<CommunityChatResponseDTO> findChatsBefore(@Param("communityId") Long communityId,
+                                                   @Param("before") Long before, Pageable pageable);
+
+    // after 이후 채팅 순차 조회
+    @Query(CHAT_RESPONSE_SELECT + "WHERE c.community.id = :communityId AND c.id > :after ORDER BY c.id ASC")
+    List<CommunityChatResponseDTO> findChatsAfter(@Param("communityId") Long communityId,
+                                                  @Param("after") Long after, Pageable pageable);
 }
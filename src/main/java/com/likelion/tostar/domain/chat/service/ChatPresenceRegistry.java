@@ -0,0 +1,196 @@
+package com.likelion.tostar.domain.chat.service;
+
+import com.likelion.tostar.domain.chat.converter.ChatConverter;
+import com.likelion.tostar.domain.chat.dto.ChatPresenceResponseDTO;
+import com.likelion.tostar.domain.chat.dto.ChatPresenceUserDTO;
+import com.likelion.tostar.global.socket.dto.ChatSessionUser;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방별 실시간 접속자 관리
+ * - 채팅방 단위로만 잠금 (ConcurrentHashMap.compute), 전역 락 없음
+ * - 세션별 구독 / 해제 / 종료는 세션 단위로 잠금 (종료된 세션에 늦게 도착한 구독이 집계되지 않도록)
+ * - 한 사용자가 여러 세션(탭)으로 접속해도 1명으로 집계
+ * - 접속자 변경 브로드캐스트는 방마다 broadcast-interval-ms 에 최대 1번으로 병합
+ * (relay 모드에서는 서버별 접속자만 집계됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceRegistry {
+    public static final String PRESENCE_TOPIC_SUFFIX = "/presence";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatConverter chatConverter;
+
+    // communityId -> (userId -> 접속 정보)
+    private final Map<Long, Map<Long, Presence>> rooms = new ConcurrentHashMap<>();
+    // sessionId -> 세션 정보
+    private final Map<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+    // 마지막 브로드캐스트 이후 접속자가 바뀐 방
+    private final Set<Long> changedRooms = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 웹 소켓 연결 (CONNECT 인증 완료)
+     */
+    public void connect(String sessionId, ChatSessionUser user) {
+        sessions.put(sessionId, new SessionPresence(user));
+    }
+
+    /**
+     * 채팅방 구독
+     */
+    public void subscribe(String sessionId, String subscriptionId, Long communityId) {
+        SessionPresence session = sessions.get(sessionId);
+        if (session == null || subscriptionId == null) {
+            return;
+        }
+        synchronized (session) {
+            // 이미 종료된 세션 (disconnect 와 경합)
+            if (session.closed) {
+                return;
+            }
+            // 같은 세션에서 같은 방을 중복 구독해도 1번만 집계
+            if (session.subscriptions.put(subscriptionId, communityId) == null
+                    && session.addRoom(communityId)) {
+                join(communityId, session.user);
+            }
+        }
+    }
+
+    /**
+     * 채팅방 구독 해제
+     */
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        SessionPresence session = sessions.get(sessionId);
+        if (session == null || subscriptionId == null) {
+            return;
+        }
+        synchronized (session) {
+            if (session.closed) {
+                return;
+            }
+            Long communityId = session.subscriptions.remove(subscriptionId);
+            if (communityId != null && session.removeRoom(communityId)) {
+                leave(communityId, session.user);
+            }
+        }
+    }
+
+    /**
+     * 웹 소켓 연결 종료 : 구독 중인 모든 방에서 퇴장
+     */
+    public void disconnect(String sessionId) {
+        SessionPresence session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        synchronized (session) {
+            for (Long communityId : session.clearRooms()) {
+                leave(communityId, session.user);
+            }
+        }
+    }
+
+    /**
+     * 접속자 수 (O(1))
+     */
+    public int countOnline(Long communityId) {
+        Map<Long, Presence> users = rooms.get(communityId);
+        return users == null ? 0 : users.size();
+    }
+
+    /**
+     * 접속자 목록
+     */
+    public ChatPresenceResponseDTO getPresence(Long communityId) {
+        Map<Long, Presence> users = rooms.getOrDefault(communityId, Map.of());
+        List<ChatPresenceUserDTO> result = new ArrayList<>(users.size());
+        for (Presence presence : users.values()) {
+            result.add(chatConverter.toChatPresenceUserDTO(presence.user));
+        }
+        return chatConverter.toChatPresenceResponseDTO(communityId, result);
+    }
+
+    /**
+     * 접속자가 바뀐 방에만 /topic/chatroom/{id}/presence 전송
+     */
+    @Scheduled(fixedRateString = "${chat.presence.broadcast-interval-ms:1000}")
+    public void broadcastChangedRooms() {
+        Iterator<Long> iterator = changedRooms.iterator();
+        while (iterator.hasNext()) {
+            Long communityId = iterator.next();
+            iterator.remove();
+            messagingTemplate.convertAndSend(
+                    CommunityChatPublisher.CHATROOM_TOPIC_PREFIX + communityId + PRESENCE_TOPIC_SUFFIX,
+                    getPresence(communityId));
+        }
+    }
+
+    private void join(Long communityId, ChatSessionUser user) {
+        rooms.compute(communityId, (id, users) -> {
+            Map<Long, Presence> roomUsers = (users == null) ? new ConcurrentHashMap<>() : users;
+            roomUsers.merge(user.getUserId(), new Presence(user, 1),
+                    (current, added) -> new Presence(current.user, current.sessionCount + 1));
+            return roomUsers;
+        });
+        changedRooms.add(communityId);
+    }
+
+    private void leave(Long communityId, ChatSessionUser user) {
+        rooms.computeIfPresent(communityId, (id, users) -> {
+            users.computeIfPresent(user.getUserId(), (userId, current) ->
+                    current.sessionCount <= 1 ? null : new Presence(current.user, current.sessionCount - 1));
+            // 아무도 없는 방은 제거
+            return users.isEmpty() ? null : users;
+        });
+        changedRooms.add(communityId);
+    }
+
+    // 사용자별 접속 세션 수
+    private record Presence(ChatSessionUser user, int sessionCount) {
+    }
+
+    // 변경은 모두 세션 lock 안에서
+    private static class SessionPresence {
+        private final ChatSessionUser user;
+        // subscriptionId -> communityId
+        private final Map<String, Long> subscriptions = new HashMap<>();
+        // communityId -> 해당 방 구독 수
+        private final Map<Long, Integer> roomSubscriptions = new HashMap<>();
+        // disconnect 로 제거됨 (이후 구독 / 해제 무시)
+        private boolean closed;
+
+        SessionPresence(ChatSessionUser user) {
+            this.user = user;
+        }
+
+        // 처음 구독한 방이면 true
+        boolean addRoom(Long communityId) {
+            return roomSubscriptions.merge(communityId, 1, Integer::sum) == 1;
+        }
+
+        // 마지막 구독이 해제된 방이면 true
+        boolean removeRoom(Long communityId) {
+            return roomSubscriptions.computeIfPresent(communityId,
+                    (id, count) -> count <= 1 ? null : count - 1) == null;
+        }
+
+        Set<Long> clearRooms() {
+            closed = true;
+            Set<Long> joined = Set.copyOf(roomSubscriptions.keySet());
+            roomSubscriptions.clear();
+            subscriptions.clear();
+            return joined;
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package com.likelion.tostar.domain.chat.service;
 
 import com.likelion.tostar.domain.chat.dto.CommunityChatRequestDTO;
+import com.likelion.tostar.global.socket.dto.ChatSessionUser;
 
 /**
  * GET을 제외한 요청 작성
  */
 public interface CommunityChatCommandService {
-    void sendMessage(CommunityChatRequestDTO messageDTO, String email);
-    void enterChatRoom(Long chatRoomId, String email);
+    void sendMessage(CommunityChatRequestDTO messageDTO, ChatSessionUser sessionUser);
+    void enterChatRoom(Long chatRoomId, ChatSessionUser sessionUser);
 }
@@ -1,5 +1,7 @@
 package com.likelion.tostar.domain.chat.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.likelion.tostar.domain.chat.converter.ChatConverter;
 import com.likelion.tostar.domain.chat.dto.CommunityChatRequestDTO;
 import com.likelion.tostar.domain.chat.dto.CommunityChatResponseDTO;
@@ -14,48 +16,64 @@ import com.likelion.tostar.domain.user.entity.User;
 import com.likelion.tostar.domain.user.repository.UserRepository;
 import com.likelion.tostar.global.enums.statuscode.ErrorStatus;
 import com.likelion.tostar.global.exception.GeneralException;
+import com.likelion.tostar.global.socket.dto.ChatSessionUser;
+import java.time.Duration;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class CommunityChatCommandServiceImpl implements CommunityChatCommandService{
+    // 채팅 전송마다 채팅방을 조회하지 않도록 존재가 확인된 채팅방 id 를 잠시 기억
+    // (삭제된 채팅방은 TTL 동안 저장 실패 -> write-behind 모드에서는 dead-letter 로 보관)
+    private static final long KNOWN_COMMUNITY_MAX_SIZE = 10_000;
+    private static final Duration KNOWN_COMMUNITY_TTL = Duration.ofMinutes(1);
+
     private final UserRepository userRepository;
     private final CommunityRepository communityRepository;
     private final CommunityChatRepository communityChatRepository;
     private final MemberRepository memberRepository;
     private final ChatConverter chatConverter;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final CommunityChatPublisher communityChatPublisher;
+    private final CommunityChatIdGenerator communityChatIdGenerator;
+    private final CommunityChatWriter communityChatWriter;
+    private final Cache<Long, Boolean> knownCommunityIds = Caffeine.newBuilder()
+            .maximumSize(KNOWN_COMMUNITY_MAX_SIZE)
+            .expireAfterWrite(KNOWN_COMMUNITY_TTL)
+            .build();
 
     /**
      * 채팅 전송
+     * 트랜잭션을 걸지 않음 : write-behind 모드에서 프레임마다 커넥션을 빌리지 않도록
+     * (채팅방 존재 확인은 캐시에 없을 때만 existsById 의 읽기 전용 트랜잭션, sync 모드 저장은 save 의 트랜잭션)
      */
     @Override
-    public void sendMessage(CommunityChatRequestDTO messageDTO, String email) {
-        Community community = findCommunityById(messageDTO.getChatRoomId());
-        User sender = findUserByEmail(email);
-        // 채팅 생성 및 저장
-        CommunityChat communityChat = CommunityChat.toCommunityChat(messageDTO.getContent(), MessageType.TALK,
-                community, sender);
-        communityChatRepository.save(communityChat);
-        // 반환용 메시지 생성
-        CommunityChatResponseDTO responseDto =
-                chatConverter.toCommunityChatResponseDTO(messageDTO.getContent(), MessageType.TALK, sender);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void sendMessage(CommunityChatRequestDTO messageDTO, ChatSessionUser sessionUser) {
+        // 채팅방, 송신자 모두 프록시만 생성 (SELECT 없음)
+        Community community = getCommunityReference(messageDTO.getChatRoomId());
+        User sender = userRepository.getReferenceById(sessionUser.getUserId());
+        // 채팅 생성 및 저장 (write-behind 모드일 경우 큐에 적재 후 일괄 저장)
+        CommunityChat communityChat = CommunityChat.toCommunityChat(communityChatIdGenerator.nextId(),
+                messageDTO.getContent(), MessageType.TALK, community, sender);
+        communityChatWriter.write(communityChat);
+        // 반환용 메시지 생성 (chatId 포함, 송신자 정보는 세션 값 사용)
+        CommunityChatResponseDTO responseDto = chatConverter.toCommunityChatResponseDTO(communityChat, sessionUser);
         // topic/chatroom/{chatRoomId} 를 구독한 Client 들에게 새로운 데이터 전송
-        messagingTemplate.convertAndSend("/topic/chatroom/" + messageDTO.getChatRoomId(), responseDto);
+        communityChatPublisher.publish(messageDTO.getChatRoomId(), responseDto);
     }
 
     /**
      * 채팅방 입장
      */
     @Override
-    public void enterChatRoom(Long chatRoomId, String email) {
+    public void enterChatRoom(Long chatRoomId, ChatSessionUser sessionUser) {
         Community community = findCommunityById(chatRoomId);
-        User user = findUserByEmail(email);
+        User user = userRepository.getReferenceById(sessionUser.getUserId());
 
         Optional<Member> membership = memberRepository.findMembership(community, user);
 
@@ -67,21 +85,26 @@ public class CommunityChatCommandServiceImpl implements CommunityChatCommandServ
         community.addMember(user);
 
         // 채팅방 반환용 메시지 생성 & 채팅방 구독자(클라이언트)에 입장 메시지 전송
-        String content = user.getPetName() + "가 " + community.getTitle() + "에 찾아왔어요";
+        String content = sessionUser.getPetName() + "가 " + community.getTitle() + "에 찾아왔어요";
         // 채팅방 저장용
-        CommunityChat communityChat =
-                CommunityChat.toCommunityChat(content, MessageType.ANNOUNCE, community, user);
+        CommunityChat communityChat = CommunityChat.toCommunityChat(communityChatIdGenerator.nextId(),
+                content, MessageType.ANNOUNCE, community, user);
         communityChatRepository.save(communityChat);
         // 채팅방 반환용 DTO
-        CommunityChatResponseDTO responseMessage =
-                chatConverter.toCommunityChatResponseDTO(content, MessageType.ANNOUNCE, user);
+        CommunityChatResponseDTO responseMessage = chatConverter.toCommunityChatResponseDTO(communityChat, sessionUser);
 
-        messagingTemplate.convertAndSend("/topic/chatroom/" + chatRoomId, responseMessage);
+        communityChatPublisher.publish(chatRoomId, responseMessage);
     }
 
-    private User findUserByEmail(String email) {
-        return userRepository.findUserByEmail(email)
-                .orElseThrow(() -> new GeneralException(ErrorStatus._USER_NOT_FOUND));
+    // 존재 확인은 채팅방별로 TTL 마다 1번 (existsById), 이후에는 프록시만 생성
+    private Community getCommunityReference(Long communityId) {
+        if (knownCommunityIds.getIfPresent(communityId) == null) {
+            if (!communityRepository.existsById(communityId)) {
+                throw new GeneralException(ErrorStatus._COMMUNITY_NOT_FOUND);
+            }
+            knownCommunityIds.put(communityId, Boolean.TRUE);
+        }
+        return communityRepository.getReferenceById(communityId);
     }
 
     private Community findCommunityById(Long communityId) {
@@ -0,0 +1,53 @@
+package com.likelion.tostar.domain.chat.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 id 생성기
+ * [41bit 경과 ms | 10bit 노드 id | 12bit 시퀀스] 구조로 시간순 증가하는 id 를 DB 왕복 없이 발급
+ * 기존 AUTO_INCREMENT 로 저장된 채팅보다 항상 큰 값이므로 chatId 커서 페이징 순서가 유지됨
+ */
+@Component
+public class CommunityChatIdGenerator {
+    private static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    // 서버를 여러 대 띄울 경우 chat.node-id 를 서버마다 다르게 설정 (0 ~ 1023)
+    // relay 모드(다중 서버)에서 미설정이면 모든 서버가 0 을 써서 id 가 충돌하므로 기동 실패 처리
+    public CommunityChatIdGenerator(@Value("${chat.node-id:}") String nodeIdProperty,
+                                    @Value("${chat.broker.mode:simple}") String brokerMode) {
+        if (nodeIdProperty.isBlank() && "relay".equalsIgnoreCase(brokerMode)) {
+            throw new IllegalStateException("chat.broker.mode=relay 에서는 서버마다 다른 chat.node-id 를 설정해야 합니다.");
+        }
+        long nodeId = nodeIdProperty.isBlank() ? 0 : Long.parseLong(nodeIdProperty.trim());
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("chat.node-id 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다.");
+        }
+        this.nodeId = nodeId;
+    }
+
+    public synchronized long nextId() {
+        long now = System.currentTimeMillis();
+        if (now < lastTimestamp) { // 시계가 뒤로 가면 마지막 시각을 계속 사용
+            now = lastTimestamp;
+        }
+        if (now == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) { // 같은 ms 에 시퀀스 소진 -> 다음 ms 로 넘김
+                now = lastTimestamp + 1;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = now;
+        return ((now - EPOCH) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+}
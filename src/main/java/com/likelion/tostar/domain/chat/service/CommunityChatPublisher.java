@@ -0,0 +1,221 @@
+package com.likelion.tostar.domain.chat.service;
+
+import com.likelion.tostar.domain.chat.dto.CommunityChatResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 브로드캐스트 단일 진입점
+ * 구독자 전송 + 최근 채팅 버퍼 적재
+ *
+ * chat.batching.enabled=true 이면 초당 채팅 수가 rate-threshold 이상인 방만
+ * window-ms 동안 모인 채팅을 배열 하나로 묶어 1 프레임으로 전송 (batch-size 헤더 포함)
+ */
+@Slf4j
+@Component
+public class CommunityChatPublisher {
+    public static final String CHATROOM_TOPIC_PREFIX = "/topic/chatroom/";
+    public static final String BATCH_SIZE_HEADER = "batch-size";
+    private static final long ROOM_STATE_TTL_MS = 60_000;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RecentChatBuffer recentChatBuffer;
+    private final boolean batchingEnabled;
+    private final long windowMs;
+    private final int rateThreshold;
+
+    private final Map<Long, RoomBatch> rooms = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flushScheduler;
+    private final Counter framesSavedCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    public CommunityChatPublisher(
+            SimpMessagingTemplate messagingTemplate,
+            RecentChatBuffer recentChatBuffer,
+            MeterRegistry meterRegistry,
+            @Value("${chat.batching.enabled:false}") boolean batchingEnabled,
+            @Value("${chat.batching.window-ms:20}") long windowMs,
+            @Value("${chat.batching.rate-threshold:20}") int rateThreshold) {
+        this.messagingTemplate = messagingTemplate;
+        this.recentChatBuffer = recentChatBuffer;
+        this.batchingEnabled = batchingEnabled;
+        this.windowMs = windowMs;
+        this.rateThreshold = rateThreshold;
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-batch-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.framesSavedCounter = Counter.builder("chat.batching.frames.saved")
+                .description("묶음 전송으로 구독자당 절약한 프레임 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("chat.batching.batch.size")
+                .description("묶음 1개에 포함된 채팅 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.batching.rooms.tracked", rooms, Map::size)
+                .description("묶음 전송 상태를 보유한 채팅방 수 (idle 방 포함, evictIdleRooms 에서 제거)")
+                .register(meterRegistry);
+    }
+
+    public void publish(Long communityId, CommunityChatResponseDTO chat) {
+        recentChatBuffer.append(communityId, chat);
+        if (!batchingEnabled) {
+            send(communityId, chat);
+            return;
+        }
+
+        while (true) {
+            RoomBatch room = rooms.computeIfAbsent(communityId, id -> new RoomBatch());
+            synchronized (room) {
+                // 제거된 방 상태를 잡았으면 새 상태로 다시 시도 (두 상태에 나뉘어 순서가 섞이지 않도록)
+                if (room.closed) {
+                    continue;
+                }
+                enqueue(communityId, room, chat);
+                return;
+            }
+        }
+    }
+
+    // 방 lock 안에서 호출
+    private void enqueue(Long communityId, RoomBatch room, CommunityChatResponseDTO chat) {
+        room.countMessage(System.currentTimeMillis());
+        // 대기 중이거나 전송 중인 묶음이 있으면 순서 유지를 위해 뒤에 이어붙임
+        if (room.pending.isEmpty() && !room.flushing && !room.isHot(rateThreshold)) {
+            send(communityId, chat);
+            return;
+        }
+        room.pending.add(chat);
+        // 전송 중이면 전송을 마친 flush 가 이어서 보냄
+        if (room.pending.size() == 1 && !room.flushing) {
+            flushScheduler.schedule(() -> flush(communityId, room), windowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 오랫동안 채팅이 없는 방 상태 제거
+     * lock 안에서 closed 로 표시한 뒤 제거하므로, 그 사이 상태를 잡은 publish 는 새 상태로 다시 시도
+     */
+    @Scheduled(fixedDelay = ROOM_STATE_TTL_MS)
+    public void evictIdleRooms() {
+        long threshold = System.currentTimeMillis() - ROOM_STATE_TTL_MS;
+        rooms.forEach((communityId, room) -> {
+            synchronized (room) {
+                if (!room.pending.isEmpty() || room.flushing || room.lastMessageAt >= threshold) {
+                    return;
+                }
+                room.closed = true;
+                rooms.remove(communityId, room);
+            }
+        });
+    }
+
+    /**
+     * 종료 시 대기 중인 묶음 전송
+     */
+    @PreDestroy
+    public void shutdown() {
+        flushScheduler.shutdownNow();
+        rooms.forEach(this::flush);
+    }
+
+    /**
+     * 대기 중인 묶음 전송
+     * 전송하는 동안에는 flushing 으로 표시해 새 채팅이 앞질러 단건 전송되지 않도록 하고,
+     * 그 사이 쌓인 채팅은 이어서 전송
+     */
+    private void flush(Long communityId, RoomBatch room) {
+        List<CommunityChatResponseDTO> batch;
+        synchronized (room) {
+            // 다른 flush 가 전송 중이면 그쪽에서 이어서 처리
+            if (room.flushing || room.pending.isEmpty()) {
+                return;
+            }
+            room.flushing = true;
+            batch = room.drainPending();
+        }
+        while (true) {
+            sendBatch(communityId, batch);
+            synchronized (room) {
+                if (room.pending.isEmpty()) {
+                    room.flushing = false;
+                    return;
+                }
+                batch = room.drainPending();
+            }
+        }
+    }
+
+    private void sendBatch(Long communityId, List<CommunityChatResponseDTO> batch) {
+        try {
+            // 1건이면 기존과 같은 단건 형식으로 전송
+            if (batch.size() == 1) {
+                send(communityId, batch.get(0));
+                return;
+            }
+            messagingTemplate.convertAndSend(CHATROOM_TOPIC_PREFIX + communityId, batch,
+                    Map.of(BATCH_SIZE_HEADER, batch.size()));
+            framesSavedCounter.increment(batch.size() - 1);
+            batchSizeSummary.record(batch.size());
+        } catch (Exception e) {
+            log.error("채팅 묶음 전송 실패 : communityId={}, {}건", communityId, batch.size(), e);
+        }
+    }
+
+    private void send(Long communityId, CommunityChatResponseDTO chat) {
+        // topic/chatroom/{communityId} 를 구독한 Client 들에게 새로운 데이터 전송
+        messagingTemplate.convertAndSend(CHATROOM_TOPIC_PREFIX + communityId, chat);
+    }
+
+    /**
+     * 방별 묶음 상태 (초 단위 채팅 수로 전송률 추정)
+     */
+    private static class RoomBatch {
+        private final List<CommunityChatResponseDTO> pending = new ArrayList<>();
+        private boolean flushing; // 묶음 전송 중 (lock 밖에서 convertAndSend 진행 중)
+        private boolean closed; // evictIdleRooms 로 제거됨 (더 이상 채팅을 받지 않음)
+        private long currentSecond;
+        private int currentCount;
+        private int previousCount;
+        private long lastMessageAt;
+
+        void countMessage(long now) {
+            long second = now / 1000;
+            if (second != currentSecond) {
+                // 바로 직전 초가 아니면 그 사이 채팅이 없었던 것
+                previousCount = (second == currentSecond + 1) ? currentCount : 0;
+                currentSecond = second;
+                currentCount = 0;
+            }
+            currentCount++;
+            lastMessageAt = now;
+        }
+
+        List<CommunityChatResponseDTO> drainPending() {
+            List<CommunityChatResponseDTO> batch = new ArrayList<>(pending);
+            pending.clear();
+            return batch;
+        }
+
+        // 직전 1초 또는 현재 1초 동안 기준 이상이면 묶음 전송
+        boolean isHot(int rateThreshold) {
+            return previousCount >= rateThreshold || currentCount >= rateThreshold;
+        }
+    }
+}
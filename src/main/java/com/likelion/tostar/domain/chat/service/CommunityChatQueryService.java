@@ -7,4 +7,8 @@ import org.springframework.http.ResponseEntity;
  */
 public interface CommunityChatQueryService {
     ResponseEntity<?> getAllCommunityChats(Long communityId);
+
+    ResponseEntity<?> getCommunityChatHistory(Long communityId, Long before, Long after, int size);
+
+    ResponseEntity<?> getCommunityPresence(Long communityId);
 }
@@ -2,7 +2,6 @@ package com.likelion.tostar.domain.chat.service;
 
 import com.likelion.tostar.domain.chat.converter.ChatConverter;
 import com.likelion.tostar.domain.chat.dto.CommunityChatResponseDTO;
-import com.likelion.tostar.domain.chat.entity.CommunityChat;
 import com.likelion.tostar.domain.chat.repository.CommunityChatRepository;
 import com.likelion.tostar.domain.community.entity.Community;
 import com.likelion.tostar.domain.community.repository.CommunityRepository;
@@ -10,8 +9,12 @@ import com.likelion.tostar.global.enums.statuscode.ErrorStatus;
 import com.likelion.tostar.global.exception.GeneralException;
 import com.likelion.tostar.global.response.ApiResponse;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
@@ -21,6 +24,10 @@ public class CommunityChatQueryServiceImpl implements CommunityChatQueryService{
     private final CommunityChatRepository communityChatRepository;
     private final CommunityRepository communityRepository;
     private final ChatConverter chatConverter;
+    private final ChatPresenceRegistry chatPresenceRegistry;
+
+    @Value("${chat.history.max-size:100}")
+    private int maxHistorySize;
 
     /**
      * 특정 채팅방 모든 채팅 반환
@@ -28,14 +35,70 @@ public class CommunityChatQueryServiceImpl implements CommunityChatQueryService{
     @Override
     public ResponseEntity<?> getAllCommunityChats(Long communityId) {
         Community community = findCommunityById(communityId);
-        List<CommunityChat> communityChats = communityChatRepository.findByCommunity(community);
-        ArrayList<CommunityChatResponseDTO> resultDTO = new ArrayList<>();
-        for (CommunityChat communityChat : communityChats) {
-            resultDTO.add(chatConverter.toCommunityChatResponseDTO(communityChat));
-        }
+        List<CommunityChatResponseDTO> resultDTO =
+                communityChatRepository.findChatResponsesByCommunityId(community.getId());
         return ResponseEntity.ok(ApiResponse.onSuccess(resultDTO));
     }
 
+    /**
+     * 특정 채팅방 채팅 내역 커서 페이징 조회
+     * before : 해당 chatId 이전(과거) 채팅, after : 해당 chatId 이후(최신) 채팅, 둘 다 없으면 최근 채팅
+     */
+    @Override
+    public ResponseEntity<?> getCommunityChatHistory(Long communityId, Long before, Long after, int size) {
+        // 400 : before, after 동시 사용 불가 / 잘못된 size
+        if ((before != null && after != null) || size < 1) {
+            throw new GeneralException(ErrorStatus._BAD_REQUEST);
+        }
+        // 404 : 존재하지 않는 커뮤니티
+        if (!communityRepository.existsById(communityId)) {
+            throw new GeneralException(ErrorStatus._COMMUNITY_NOT_FOUND);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회 (COUNT 쿼리 없음)
+        int pageSize = Math.min(size, maxHistorySize);
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+
+        // 송신자 정보까지 한 번의 쿼리로 조회
+        List<CommunityChatResponseDTO> communityChats;
+        if (after != null) {
+            communityChats = communityChatRepository.findChatsAfter(communityId, after, limit);
+        } else if (before != null) {
+            communityChats = communityChatRepository.findChatsBefore(communityId, before, limit);
+        } else {
+            communityChats = communityChatRepository.findLatestChats(communityId, limit);
+        }
+
+        boolean hasMore = communityChats.size() > pageSize;
+        List<CommunityChatResponseDTO> chats =
+                new ArrayList<>(hasMore ? communityChats.subList(0, pageSize) : communityChats);
+        // 반환은 항상 오래된 순
+        if (after == null) {
+            Collections.reverse(chats);
+        }
+
+        // 다음 요청 커서 : 과거 방향이면 가장 오래된 chatId, 최신 방향이면 가장 최근 chatId
+        Long cursor = null;
+        if (!chats.isEmpty()) {
+            cursor = (after != null) ? chats.get(chats.size() - 1).getChatId() : chats.get(0).getChatId();
+        }
+
+        return ResponseEntity.ok(ApiResponse.onSuccess(
+                chatConverter.toCommunityChatHistoryResponseDTO(chats, hasMore, cursor)));
+    }
+
+    /**
+     * 채팅방 실시간 접속자 조회 (메모리 조회, DB 는 존재 여부만 확인)
+     */
+    @Override
+    public ResponseEntity<?> getCommunityPresence(Long communityId) {
+        // 404 : 존재하지 않는 커뮤니티
+        if (!communityRepository.existsById(communityId)) {
+            throw new GeneralException(ErrorStatus._COMMUNITY_NOT_FOUND);
+        }
+        return ResponseEntity.ok(ApiResponse.onSuccess(chatPresenceRegistry.getPresence(communityId)));
+    }
+
     public Community findCommunityById(Long communityId) {
         return communityRepository.findById(communityId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus._COMMUNITY_NOT_FOUND));
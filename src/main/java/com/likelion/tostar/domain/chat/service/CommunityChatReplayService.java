@@ -0,0 +1,114 @@
+package com.likelion.tostar.domain.chat.service;
+
+import com.likelion.tostar.domain.chat.dto.CommunityChatResponseDTO;
+import com.likelion.tostar.domain.chat.repository.CommunityChatRepository;
+import com.likelion.tostar.global.socket.event.BrokerSubscriptionRegisteredEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 재연결 시 누락 채팅 재전송
+ * SUBSCRIBE /topic/chatroom/{id} 에 last-seen-id 헤더가 있으면 그 이후 채팅을 해당 구독에만 전송
+ * 최근 채팅 버퍼 우선, 버퍼 범위보다 오래된 경우만 DB 조회
+ * 브로커가 구독을 등록한 뒤 조회 (BrokerSubscriptionRegisteredEvent) -> 등록 전에 발행된 채팅은 버퍼에 이미 있어 재전송,
+ * 등록 후 발행된 채팅은 실시간으로 전달되므로 빠지는 채팅이 없음
+ * 대신 조회와 실시간 전달이 겹친 채팅은 두 번 올 수 있으므로 클라이언트는 chatId 기준으로 중복 제거 (CommunityChatResponseDTO)
+ * (relay 모드는 외부 브로커 등록이 비동기라 등록 직전 채팅이 빠질 수 있음 ; 누락분은 history API 로 보완)
+ */
+@Slf4j
+@Service
+public class CommunityChatReplayService {
+    public static final String LAST_SEEN_ID_HEADER = "last-seen-id";
+    private static final Pattern CHATROOM_DESTINATION =
+            Pattern.compile("^" + Pattern.quote(CommunityChatPublisher.CHATROOM_TOPIC_PREFIX) + "(\\d+)$");
+
+    private final RecentChatBuffer recentChatBuffer;
+    private final CommunityChatRepository communityChatRepository;
+    // 브로커를 거치지 않고 특정 세션에 직접 전송
+    private final SimpMessagingTemplate sessionMessagingTemplate;
+    private final boolean bufferEnabled;
+
+    @Value("${chat.history.max-size:100}")
+    private int maxReplaySize;
+
+    public CommunityChatReplayService(
+            RecentChatBuffer recentChatBuffer,
+            CommunityChatRepository communityChatRepository,
+            @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+            @Value("${chat.broker.mode:simple}") String brokerMode) {
+        this.recentChatBuffer = recentChatBuffer;
+        this.communityChatRepository = communityChatRepository;
+        this.sessionMessagingTemplate = new SimpMessagingTemplate(clientOutboundChannel);
+        // relay 모드에서는 다른 서버에서 보낸 채팅이 이 서버 버퍼에 없으므로 항상 DB 조회
+        this.bufferEnabled = !"relay".equalsIgnoreCase(brokerMode);
+    }
+
+    @EventListener
+    public void handleSubscribe(BrokerSubscriptionRegisteredEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.message());
+        String destination = accessor.getDestination();
+        String lastSeenHeader = accessor.getFirstNativeHeader(LAST_SEEN_ID_HEADER);
+        if (destination == null || lastSeenHeader == null) {
+            return;
+        }
+        Matcher matcher = CHATROOM_DESTINATION.matcher(destination);
+        if (!matcher.matches()) {
+            return;
+        }
+
+        long lastSeenId;
+        try {
+            lastSeenId = Long.parseLong(lastSeenHeader);
+        } catch (NumberFormatException e) {
+            log.debug("잘못된 last-seen-id 헤더 : {}", lastSeenHeader);
+            return;
+        }
+        Long communityId = Long.valueOf(matcher.group(1));
+
+        List<CommunityChatResponseDTO> missed = findMissedChats(communityId, lastSeenId);
+        for (CommunityChatResponseDTO chat : missed) {
+            SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            headers.setSessionId(accessor.getSessionId());
+            headers.setSubscriptionId(accessor.getSubscriptionId());
+            headers.setLeaveMutable(true);
+            sessionMessagingTemplate.convertAndSend(destination, chat, headers.getMessageHeaders());
+        }
+    }
+
+    private List<CommunityChatResponseDTO> findMissedChats(Long communityId, long lastSeenId) {
+        if (bufferEnabled) {
+            Optional<List<CommunityChatResponseDTO>> buffered = recentChatBuffer.findAfter(communityId, lastSeenId);
+            if (buffered.isPresent()) {
+                return buffered.get();
+            }
+        }
+
+        // 버퍼 범위보다 오래된 경우 DB 조회 (최대 maxReplaySize 건, 이후는 history API 로 이어서 조회)
+        List<CommunityChatResponseDTO> communityChats = communityChatRepository.findChatsAfter(
+                communityId, lastSeenId, PageRequest.ofSize(maxReplaySize + 1));
+        boolean hasMore = communityChats.size() > maxReplaySize;
+        List<CommunityChatResponseDTO> missed =
+                new ArrayList<>(hasMore ? communityChats.subList(0, maxReplaySize) : communityChats);
+
+        // 아직 DB 에 반영되지 않은 채팅 (write-behind 대기분) 은 버퍼에서 보충
+        if (bufferEnabled && !hasMore) {
+            long lastId = missed.isEmpty() ? lastSeenId : missed.get(missed.size() - 1).getChatId();
+            missed.addAll(recentChatBuffer.findBufferedAfter(communityId, lastId));
+        }
+        return missed;
+    }
+}
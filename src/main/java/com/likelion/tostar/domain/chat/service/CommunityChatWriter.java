@@ -0,0 +1,11 @@
+package com.likelion.tostar.domain.chat.service;
+
+import com.likelion.tostar.domain.chat.entity.CommunityChat;
+
+/**
+ * 채팅 저장 방식
+ * chat.persistence.mode = sync(기본) | write-behind
+ */
+public interface CommunityChatWriter {
+    void write(CommunityChat communityChat);
+}
@@ -0,0 +1,140 @@
+package com.likelion.tostar.domain.chat.service;
+
+import com.likelion.tostar.domain.chat.dto.CommunityChatResponseDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방별 최근 채팅 버퍼 (재연결 시 누락분 재전송용)
+ * chatId 순으로 보관 (inbound 스레드 여러 개가 동시에 추가하면 추가 순서와 chatId 순서가 다를 수 있음)
+ * 방당 최대 room-capacity 건, 전체 최대 max-rooms 개 방 -> 메모리 상한 = room-capacity * max-rooms 건
+ * idle-ttl-ms 동안 채팅이 없는 방은 주기적으로 제거
+ */
+@Slf4j
+@Component
+public class RecentChatBuffer {
+    private final Map<Long, RoomBuffer> rooms = new ConcurrentHashMap<>();
+    private final int roomCapacity;
+    private final int maxRooms;
+    private final long idleTtlMs;
+
+    public RecentChatBuffer(
+            MeterRegistry meterRegistry,
+            @Value("${chat.recent-buffer.room-capacity:100}") int roomCapacity,
+            @Value("${chat.recent-buffer.max-rooms:1000}") int maxRooms,
+            @Value("${chat.recent-buffer.idle-ttl-ms:600000}") long idleTtlMs) {
+        if (roomCapacity < 1 || maxRooms < 1) {
+            throw new IllegalArgumentException("chat.recent-buffer.room-capacity, max-rooms 는 1 이상이어야 합니다.");
+        }
+        this.roomCapacity = roomCapacity;
+        this.maxRooms = maxRooms;
+        this.idleTtlMs = idleTtlMs;
+        Gauge.builder("chat.recent-buffer.rooms", rooms, Map::size)
+                .description("최근 채팅 버퍼를 보유한 채팅방 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 채팅 추가 (chatId 가 없는 메시지는 재전송 기준이 없으므로 제외)
+     */
+    public void append(Long communityId, CommunityChatResponseDTO chat) {
+        if (chat.getChatId() == null) {
+            return;
+        }
+        RoomBuffer room = rooms.get(communityId);
+        if (room == null) {
+            evictIfFull();
+            room = rooms.computeIfAbsent(communityId, id -> new RoomBuffer(roomCapacity));
+        }
+        room.append(chat);
+    }
+
+    /**
+     * lastSeenId 이후 채팅 조회
+     * 버퍼가 lastSeenId 시점부터의 채팅을 모두 보유하고 있을 때만 반환, 아니면 empty (DB 조회 필요)
+     */
+    public Optional<List<CommunityChatResponseDTO>> findAfter(Long communityId, long lastSeenId) {
+        RoomBuffer room = rooms.get(communityId);
+        if (room == null) {
+            return Optional.empty();
+        }
+        return room.findAfter(lastSeenId);
+    }
+
+    /**
+     * lastSeenId 이후 버퍼에 있는 채팅 (보유 범위와 무관, DB 조회 결과 뒤에 이어붙이는 용도)
+     */
+    public List<CommunityChatResponseDTO> findBufferedAfter(Long communityId, long lastSeenId) {
+        RoomBuffer room = rooms.get(communityId);
+        return room == null ? List.of() : room.findBufferedAfter(lastSeenId);
+    }
+
+    /**
+     * 일정 시간 채팅이 없는 방 제거
+     */
+    @Scheduled(fixedDelayString = "${chat.recent-buffer.evict-interval-ms:60000}")
+    public void evictIdleRooms() {
+        long threshold = System.currentTimeMillis() - idleTtlMs;
+        int before = rooms.size();
+        rooms.values().removeIf(room -> room.lastAccessAt < threshold);
+        if (rooms.size() != before) {
+            log.debug("최근 채팅 버퍼 idle 방 제거 : {}개", before - rooms.size());
+        }
+    }
+
+    // 방 수 상한 초과 시 가장 오래 사용되지 않은 방 제거
+    private void evictIfFull() {
+        while (rooms.size() >= maxRooms && !rooms.isEmpty()) {
+            rooms.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().lastAccessAt))
+                    .ifPresent(eldest -> rooms.remove(eldest.getKey(), eldest.getValue()));
+        }
+    }
+
+    private static class RoomBuffer {
+        // chatId -> 채팅 (가득 차면 chatId 가 가장 작은 채팅부터 제거)
+        private final TreeMap<Long, CommunityChatResponseDTO> chats = new TreeMap<>();
+        private final int capacity;
+        private volatile long lastAccessAt = System.currentTimeMillis();
+
+        RoomBuffer(int capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized void append(CommunityChatResponseDTO chat) {
+            chats.put(chat.getChatId(), chat);
+            if (chats.size() > capacity) {
+                chats.pollFirstEntry();
+            }
+            lastAccessAt = System.currentTimeMillis();
+        }
+
+        synchronized Optional<List<CommunityChatResponseDTO>> findAfter(long lastSeenId) {
+            lastAccessAt = System.currentTimeMillis();
+            // lastSeenId 가 가장 작은 chatId 보다 이전이면 그 사이 채팅이 (밀려났거나 버퍼 생성 전이라) 버퍼에 없을 수 있음
+            if (chats.isEmpty() || lastSeenId < chats.firstKey()) {
+                return Optional.empty();
+            }
+            return Optional.of(collectAfter(lastSeenId));
+        }
+
+        synchronized List<CommunityChatResponseDTO> findBufferedAfter(long lastSeenId) {
+            return collectAfter(lastSeenId);
+        }
+
+        private List<CommunityChatResponseDTO> collectAfter(long lastSeenId) {
+            return new ArrayList<>(chats.tailMap(lastSeenId, false).values());
+        }
+    }
+}
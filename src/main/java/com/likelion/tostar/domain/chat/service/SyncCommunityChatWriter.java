@@ -0,0 +1,22 @@
+package com.likelion.tostar.domain.chat.service;
+
+import com.likelion.tostar.domain.chat.entity.CommunityChat;
+import com.likelion.tostar.domain.chat.repository.CommunityChatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 전송 트랜잭션 안에서 바로 저장
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.persistence.mode", havingValue = "sync", matchIfMissing = true)
+public class SyncCommunityChatWriter implements CommunityChatWriter {
+    private final CommunityChatRepository communityChatRepository;
+
+    @Override
+    public void write(CommunityChat communityChat) {
+        communityChatRepository.save(communityChat);
+    }
+}
@@ -0,0 +1,235 @@
+package com.likelion.tostar.domain.chat.service;
+
+import com.likelion.tostar.domain.chat.entity.CommunityChat;
+import com.likelion.tostar.domain.chat.entity.CommunityChatDeadLetter;
+import com.likelion.tostar.domain.chat.repository.CommunityChatDeadLetterRepository;
+import com.likelion.tostar.domain.chat.repository.CommunityChatRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채팅을 메모리 큐에 쌓아두고 N ms 마다 또는 M 건이 모이면 JDBC batch 로 한 번에 저장
+ * 채팅 전송(브로드캐스트) 경로에서 INSERT 왕복을 제거하기 위함
+ * 일괄 저장 실패 시 : 백오프 재시도 -> 건별 저장 -> 그래도 실패한 건은 dead-letter 테이블에 보관
+ * (전송자는 이미 성공 응답을 받았으므로 한 건의 오류로 배치 전체가 유실되지 않도록)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.persistence.mode", havingValue = "write-behind")
+public class WriteBehindCommunityChatWriter implements CommunityChatWriter {
+    private final CommunityChatRepository communityChatRepository;
+    private final CommunityChatDeadLetterRepository deadLetterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<CommunityChat> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long shutdownTimeoutMs;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+    private final Counter deadLetterCounter;
+    private final Counter overflowCounter;
+
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public WriteBehindCommunityChatWriter(
+            CommunityChatRepository communityChatRepository,
+            CommunityChatDeadLetterRepository deadLetterRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${chat.persistence.queue-capacity:10000}") int queueCapacity,
+            @Value("${chat.persistence.batch-size:100}") int batchSize,
+            @Value("${chat.persistence.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${chat.persistence.shutdown-timeout-ms:5000}") long shutdownTimeoutMs,
+            @Value("${chat.persistence.max-retries:3}") int maxRetries,
+            @Value("${chat.persistence.retry-backoff-ms:100}") long retryBackoffMs) {
+        this.communityChatRepository = communityChatRepository;
+        this.deadLetterRepository = deadLetterRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMs = retryBackoffMs;
+
+        // 메트릭
+        Gauge.builder("chat.persistence.queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 채팅 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.persistence.flush.latency")
+                .description("채팅 일괄 저장 소요 시간")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("chat.persistence.flushed").register(meterRegistry);
+        this.failedCounter = Counter.builder("chat.persistence.failed")
+                .description("일괄 저장에 실패해 건별 저장으로 넘어간 채팅 수")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("chat.persistence.retried").register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("chat.persistence.dead_letter")
+                .description("건별 저장까지 실패해 dead-letter 로 보관한 채팅 수")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("chat.persistence.overflow")
+                .description("큐가 가득 차 동기 저장으로 대체된 채팅 수")
+                .register(meterRegistry);
+
+        this.flusher = new Thread(this::runFlushLoop, "chat-write-behind");
+        this.flusher.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.start();
+    }
+
+    @Override
+    public void write(CommunityChat communityChat) {
+        // 큐가 가득 찼거나 종료 중이면 유실되지 않도록 호출 스레드에서 바로 저장
+        if (!running || !queue.offer(communityChat)) {
+            overflowCounter.increment();
+            communityChatRepository.save(communityChat);
+        }
+    }
+
+    /**
+     * 종료 시 큐에 남은 채팅을 모두 저장
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        flusher.join(flushIntervalMs + shutdownTimeoutMs);
+
+        List<CommunityChat> remaining = new ArrayList<>(batchSize);
+        while (queue.drainTo(remaining, batchSize) > 0) {
+            flush(remaining);
+        }
+        log.info("채팅 write-behind 종료 : 큐 잔여 {}건", queue.size());
+    }
+
+    private void runFlushLoop() {
+        List<CommunityChat> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                CommunityChat first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 채팅 이후 flushIntervalMs 가 지나거나 batchSize 가 찰 때까지 모음
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remainingNanos <= 0) {
+                        break;
+                    }
+                    CommunityChat next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            flush(batch);
+        }
+    }
+
+    private void flush(List<CommunityChat> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            if (saveBatchWithRetry(batch)) {
+                flushedCounter.increment(batch.size());
+                return;
+            }
+            // 배치 안의 한 건 때문에 전체가 실패할 수 있으므로 건별로 저장
+            failedCounter.increment(batch.size());
+            for (CommunityChat chat : batch) {
+                chat.markNew();
+                saveOneOrDeadLetter(chat);
+            }
+        } finally {
+            sample.stop(flushTimer);
+            batch.clear();
+        }
+    }
+
+    // 일괄 저장 (실패 시 maxRetries 번까지 지수 백오프 재시도)
+    // 실패한 flush 에서 신규 표시가 풀렸으므로 재시도 전에 되돌려 다시 batch INSERT 로 저장
+    private boolean saveBatchWithRetry(List<CommunityChat> batch) {
+        for (int attempt = 0; ; attempt++) {
+            if (attempt > 0) {
+                batch.forEach(CommunityChat::markNew);
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> communityChatRepository.saveAll(batch));
+                return true;
+            } catch (Exception e) {
+                if (attempt >= maxRetries) {
+                    log.error("채팅 일괄 저장 실패 : {}건, 건별 저장으로 전환", batch.size(), e);
+                    return false;
+                }
+                log.warn("채팅 일괄 저장 재시도 ({}/{}) : {}건", attempt + 1, maxRetries, batch.size(), e);
+                retriedCounter.increment();
+                if (!sleep(retryBackoffMs << attempt)) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void saveOneOrDeadLetter(CommunityChat chat) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> communityChatRepository.save(chat));
+            flushedCounter.increment();
+        } catch (Exception e) {
+            try {
+                transactionTemplate.executeWithoutResult(
+                        status -> deadLetterRepository.save(CommunityChatDeadLetter.of(chat, e)));
+                deadLetterCounter.increment();
+                log.error("채팅 저장 실패, dead-letter 보관 : chatId={}", chat.getId(), e);
+            } catch (Exception deadLetterError) {
+                // 최후 수단 : 복구할 수 있도록 내용을 로그로 남김
+                log.error("채팅 dead-letter 저장 실패 : chatId={}, communityId={}, content={}",
+                        chat.getId(), chat.getCommunity() == null ? null : chat.getCommunity().getId(),
+                        chat.getContent(), deadLetterError);
+            }
+        }
+    }
+
+    // 종료 중 interrupt 되면 false
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -49,8 +49,10 @@ public class CommunityController {
      * 모든 커뮤니티 미리보기(최신 작성순)
      */
     @GetMapping("preview/all")
-    public ResponseEntity<?> getAllPreviews(Pageable pageable) {
-        return communityQueryService.getAllPreviews(pageable);
+    public ResponseEntity<?> getAllPreviews(
+            Pageable pageable,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal) {
+        return communityQueryService.getAllPreviews(pageable, withTotal);
     }
 
     /**
@@ -59,8 +61,9 @@ public class CommunityController {
     @GetMapping("preview/my")
     public ResponseEntity<?> getMyCommunities(
             Pageable pageable,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal,
             @AuthenticationPrincipal CustomUserDetails customUserDetails) {
-        return communityQueryService.getMyCommunities(pageable,customUserDetails.getEmail());
+        return communityQueryService.getMyCommunities(pageable, customUserDetails.getEmail(), withTotal);
     }
 
     /**
@@ -4,6 +4,8 @@ package com.likelion.tostar.domain.community.repository;
 import com.likelion.tostar.domain.community.entity.Community;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -15,4 +17,10 @@ public interface CommunityRepository extends JpaRepository<Community, Long> {
     List<Community> getRandomPreviews();
 
     Optional<Community> findByTitle(String title);
+
+    /**
+     * 커뮤니티 목록 (무한 스크롤) ; COUNT 쿼리 없는 조회
+     */
+    @Query("SELECT c FROM Community c")
+    Slice<Community> findAllSlice(Pageable pageable);
 }
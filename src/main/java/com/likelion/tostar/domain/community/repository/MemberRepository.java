@@ -6,6 +6,7 @@ import com.likelion.tostar.domain.user.entity.User;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,5 +18,9 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     @Query("SELECT c FROM Member m JOIN m.community c WHERE m.communityMember = :user")
     Page<Community> findMyCommunities(@Param("user") User user, Pageable pageable);
+
+    // (무한 스크롤) COUNT 쿼리 없는 조회
+    @Query("SELECT c FROM Member m JOIN m.community c WHERE m.communityMember = :user")
+    Slice<Community> findMyCommunitySlice(@Param("user") User user, Pageable pageable);
 }
 
@@ -5,6 +5,8 @@ import com.likelion.tostar.domain.chat.dto.CommunityChatResponseDTO;
 import com.likelion.tostar.domain.chat.entity.CommunityChat;
 import com.likelion.tostar.domain.chat.entity.enums.MessageType;
 import com.likelion.tostar.domain.chat.repository.CommunityChatRepository;
+import com.likelion.tostar.domain.chat.service.CommunityChatIdGenerator;
+import com.likelion.tostar.domain.chat.service.CommunityChatPublisher;
 import com.likelion.tostar.domain.community.converter.CommunityConverter;
 import com.likelion.tostar.domain.community.dto.CommunityFormDTO;
 import com.likelion.tostar.domain.community.entity.Community;
@@ -16,11 +18,11 @@ import com.likelion.tostar.domain.user.repository.UserRepository;
 import com.likelion.tostar.global.enums.statuscode.ErrorStatus;
 import com.likelion.tostar.global.exception.GeneralException;
 import com.likelion.tostar.global.response.ApiResponse;
+import com.likelion.tostar.global.s3.service.S3DeletionOutboxService;
 import com.likelion.tostar.global.s3.service.S3Service;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -36,7 +38,9 @@ public class CommunityCommandServiceImpl implements CommunityCommandService {
     private final CommunityConverter communityConverter;
     private final ChatConverter chatConverter;
     private final S3Service s3Service;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
+    private final CommunityChatPublisher communityChatPublisher;
+    private final CommunityChatIdGenerator communityChatIdGenerator;
 
     @Override
     public ResponseEntity<?> createCommunity(
@@ -81,8 +85,8 @@ public class CommunityCommandServiceImpl implements CommunityCommandService {
         }
 
         // 5. 커뮤니티 값 수정
-        // 5.1. 기존 이미지 삭제
-        s3Service.deleteFileByURL(community.getProfileImage());
+        // 5.1. 기존 이미지 삭제 (outbox 기록 ; 커밋 후 백그라운드에서 S3 삭제)
+        s3DeletionOutboxService.enqueue(community.getProfileImage());
         // 5.2. 커뮤니티 정보 변경
         community.changeCommunityInfo(communityFormDTO);
         // 5.3. 새로운 이미지 저장
@@ -108,8 +112,8 @@ public class CommunityCommandServiceImpl implements CommunityCommandService {
             throw new GeneralException(ErrorStatus._FORBIDDEN);
         }
 
-        // 4. 커뮤니티 이미지 삭제
-        s3Service.deleteFileByURL(community.getProfileImage());
+        // 4. 커뮤니티 이미지 삭제 (outbox 기록 ; 커밋 후 백그라운드에서 S3 삭제)
+        s3DeletionOutboxService.enqueue(community.getProfileImage());
         communityRepository.delete(community);
 
         return ResponseEntity.ok(ApiResponse.onSuccess("커뮤니티가 삭제되었습니다."));
@@ -135,14 +139,13 @@ public class CommunityCommandServiceImpl implements CommunityCommandService {
         String content = user.getPetName() + "가 " + community.getTitle() + "에 찾아왔어요";
 
         // 채팅방 저장용
-        CommunityChat communityChat =
-                CommunityChat.toCommunityChat(content, MessageType.ANNOUNCE, community, user);
+        CommunityChat communityChat = CommunityChat.toCommunityChat(communityChatIdGenerator.nextId(),
+                content, MessageType.ANNOUNCE, community, user);
         communityChatRepository.save(communityChat);
 
         // 채팅방 반환용 DTO
-        CommunityChatResponseDTO responseMessage =
-                chatConverter.toCommunityChatResponseDTO(content, MessageType.ANNOUNCE, user);
-        messagingTemplate.convertAndSend("/topic/chatroom/" + communityId, responseMessage);
+        CommunityChatResponseDTO responseMessage = chatConverter.toCommunityChatResponseDTO(communityChat);
+        communityChatPublisher.publish(communityId, responseMessage);
 
         return ResponseEntity.ok(ApiResponse.onSuccess("커뮤니티 가입에 성공하였습니다."));
     }
@@ -167,14 +170,13 @@ public class CommunityCommandServiceImpl implements CommunityCommandService {
         String content = user.getPetName() + "가 " + community.getTitle() + "을 떠났어요.";
 
         // 채팅방 저장용
-        CommunityChat communityChat =
-                CommunityChat.toCommunityChat(content, MessageType.ANNOUNCE, community, user);
+        CommunityChat communityChat = CommunityChat.toCommunityChat(communityChatIdGenerator.nextId(),
+                content, MessageType.ANNOUNCE, community, user);
         communityChatRepository.save(communityChat);
 
         // 채팅방 반환용 DTO
-        CommunityChatResponseDTO responseMessage =
-                chatConverter.toCommunityChatResponseDTO(content, MessageType.ANNOUNCE, user);
-        messagingTemplate.convertAndSend("/topic/chatroom/" + communityId, responseMessage);
+        CommunityChatResponseDTO responseMessage = chatConverter.toCommunityChatResponseDTO(communityChat);
+        communityChatPublisher.publish(communityId, responseMessage);
         return ResponseEntity.ok(ApiResponse.onSuccess("커뮤니티 탈퇴에 성공하였습니다."));
     }
 
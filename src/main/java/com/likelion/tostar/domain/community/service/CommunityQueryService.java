@@ -11,9 +11,9 @@ import org.springframework.http.ResponseEntity;
 public interface CommunityQueryService {
     ResponseEntity<?> getRandomPreviews();
 
-    ResponseEntity<?> getAllPreviews(Pageable pageable);
+    ResponseEntity<?> getAllPreviews(Pageable pageable, boolean withTotal);
 
-    ResponseEntity<?> getMyCommunities(Pageable pageable, String email);
+    ResponseEntity<?> getMyCommunities(Pageable pageable, String email, boolean withTotal);
 
     ResponseEntity<?> getCommunityPreview(Long communityId, String email);
 
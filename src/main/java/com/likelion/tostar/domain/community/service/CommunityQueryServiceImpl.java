@@ -12,13 +12,14 @@ import com.likelion.tostar.domain.user.repository.UserRepository;
 import com.likelion.tostar.global.enums.statuscode.ErrorStatus;
 import com.likelion.tostar.global.exception.GeneralException;
 import com.likelion.tostar.global.response.ApiResponse;
+import com.likelion.tostar.global.response.PagingHeaders;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.http.ResponseEntity;
@@ -48,10 +49,13 @@ public class CommunityQueryServiceImpl implements CommunityQueryService{
     }
 
     @Override
-    public ResponseEntity<?> getAllPreviews(Pageable pageable) {
+    public ResponseEntity<?> getAllPreviews(Pageable pageable, boolean withTotal) {
         Pageable defaultPageable = getAscSortPageable(pageable); // 최신 생성순 조회
 
-        Page<Community> allCommunities = communityRepository.findAll(defaultPageable);
+        // 전체 개수가 필요한 경우만 COUNT 쿼리
+        Slice<Community> allCommunities = withTotal
+                ? communityRepository.findAll(defaultPageable)
+                : communityRepository.findAllSlice(defaultPageable);
 
         // 반환 DTO 작성
         ArrayList<CommunityPreviewResponseDTO> resultDTOList = new ArrayList<>();
@@ -60,11 +64,13 @@ public class CommunityQueryServiceImpl implements CommunityQueryService{
                     communityConverter.toCommunityPreviewResponseDTO(community));
         }
 
-        return ResponseEntity.ok(ApiResponse.onSuccess(resultDTOList));
+        return ResponseEntity.ok()
+                .headers(PagingHeaders.of(allCommunities))
+                .body(ApiResponse.onSuccess(resultDTOList));
     }
 
     @Override
-    public ResponseEntity<?> getMyCommunities(Pageable pageable, String email) {
+    public ResponseEntity<?> getMyCommunities(Pageable pageable, String email, boolean withTotal) {
         // 1. 회원 정보 조회
         User user = findUserByEmail(email);
 
@@ -72,7 +78,9 @@ public class CommunityQueryServiceImpl implements CommunityQueryService{
         Pageable defaultPageable = getDescSortPageable(pageable);
 
         // 2. 연관된 회원 정보 조회
-        Page<Community> myCommunities = memberRepository.findMyCommunities(user, defaultPageable);
+        Slice<Community> myCommunities = withTotal
+                ? memberRepository.findMyCommunities(user, defaultPageable)
+                : memberRepository.findMyCommunitySlice(user, defaultPageable);
 
         // 4. 반환 DTO 작성
         List<CommunityPreviewResponseDTO> resultDTOList = new ArrayList<>();
@@ -81,7 +89,9 @@ public class CommunityQueryServiceImpl implements CommunityQueryService{
                     communityConverter.toCommunityPreviewResponseDTO(community));
         }
 
-        return ResponseEntity.ok(ApiResponse.onSuccess(resultDTOList));
+        return ResponseEntity.ok()
+                .headers(PagingHeaders.of(myCommunities))
+                .body(ApiResponse.onSuccess(resultDTOList));
     }
 
     @Override
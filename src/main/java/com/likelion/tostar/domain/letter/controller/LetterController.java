@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/letters")
@@ -24,6 +25,16 @@ public class LetterController {
         return letterService.post(customUserDetails.getId(), letterPostRequestDto);
     }
 
+    /**
+     * 편지 전송 (답장 스트리밍, SSE)
+     */
+    @PostMapping("/stream")
+    public SseEmitter postStream(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestBody LetterPostRequestDto letterPostRequestDto) {
+        return letterService.postStream(customUserDetails.getId(), letterPostRequestDto);
+    }
+
     /**
      * 편지 목록 전체 조회
      */
@@ -31,8 +42,9 @@ public class LetterController {
     public ResponseEntity<?> searchList(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @RequestParam(value = "page", defaultValue = "0")int page,
-            @RequestParam(value = "size", defaultValue = "4")int size) {
-        return letterService.searchList(customUserDetails.getId(), page, size);
+            @RequestParam(value = "size", defaultValue = "4")int size,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal) {
+        return letterService.searchList(customUserDetails.getId(), page, size, withTotal);
     }
 
     /**
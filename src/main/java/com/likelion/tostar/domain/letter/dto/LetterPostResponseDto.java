@@ -1,5 +1,6 @@
 package com.likelion.tostar.domain.letter.dto;
 
+import com.likelion.tostar.domain.letter.entity.LetterStatus;
 import lombok.Builder;
 import lombok.Data;
 
@@ -7,4 +8,5 @@ import lombok.Data;
 @Builder
 public class LetterPostResponseDto {
     private Long receivedLetter;
+    private LetterStatus status; // 비동기 답장이면 PENDING (완료 시 /user/queue/letters 로 알림)
 }
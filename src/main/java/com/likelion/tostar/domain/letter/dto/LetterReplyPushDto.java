@@ -0,0 +1,15 @@
+package com.likelion.tostar.domain.letter.dto;
+
+import com.likelion.tostar.domain.letter.entity.LetterStatus;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 답장 생성 완료 알림 (/user/queue/letters)
+ */
+@Data
+@Builder
+public class LetterReplyPushDto {
+    private Long letterId;
+    private LetterStatus status;
+}
@@ -1,5 +1,6 @@
 package com.likelion.tostar.domain.letter.dto;
 
+import com.likelion.tostar.domain.letter.entity.LetterStatus;
 import com.likelion.tostar.domain.letter.entity.SenderType;
 import jakarta.persistence.Lob;
 import lombok.Builder;
@@ -11,4 +12,5 @@ public class LetterSearchDetailDto {
     private SenderType sender;
     @Lob  // 긴 텍스트를 저장할 수 있도록 추가 ->  데이터베이스에서 TEXT으로 지정됨 (String->VARCHAR)
     private String content;
+    private LetterStatus status; // 답장 생성 상태 (polling)
 }
@@ -1,5 +1,6 @@
 package com.likelion.tostar.domain.letter.dto;
 
+import com.likelion.tostar.domain.letter.entity.LetterStatus;
 import com.likelion.tostar.domain.letter.entity.SenderType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Lob;
@@ -14,4 +15,5 @@ public class LetterSearchListDto {
     private SenderType sender;
     private String content;
     private String createdAt;
+    private LetterStatus status;
 }
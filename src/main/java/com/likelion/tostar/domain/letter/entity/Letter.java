@@ -10,7 +10,10 @@ import lombok.*;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "Letter")
+@Table(name = "Letter", indexes = {
+        // 재시작 / 주기적 재처리 대상 조회 (생성 대기 중인 답장)
+        @Index(name = "idx_letter_reply_status_created_at", columnList = "reply_status, created_at")
+})
 public class Letter extends BaseEntity {
 
     @Id
@@ -28,7 +31,31 @@ public class Letter extends BaseEntity {
     @Column(name = "sender_type")
     private SenderType senderType; // 보낸 편지, 받은 편지 구분을 위한 변수
 
+    // 답장 생성 상태 (null 은 기존 데이터 = 완료)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reply_status")
+    private LetterStatus status;
+
+    // (받은 편지) 답장 대상인 보낸 편지 id
+    @Column(name = "reply_to")
+    private Long replyTo;
+
     //====== 편의 메소드 ======//
+    public boolean isPending() {
+        return status == LetterStatus.PENDING;
+    }
+
+    // 답장 생성 완료
+    public void completeReply(String content) {
+        this.content = content;
+        this.status = LetterStatus.COMPLETED;
+    }
+
+    // 답장 생성 실패
+    public void failReply() {
+        this.status = LetterStatus.FAILED;
+    }
+
     // content를 100자까지 자르는 메서드
     public String truncate100Content(String content) {
         return content.length() > 100 ? content.substring(0, 100) + "..." : content;
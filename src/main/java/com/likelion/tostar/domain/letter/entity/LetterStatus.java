@@ -0,0 +1,8 @@
+package com.likelion.tostar.domain.letter.entity;
+
+/**
+ * 답장 생성 상태 (비동기 답장)
+ */
+public enum LetterStatus {
+    PENDING, COMPLETED, FAILED
+}
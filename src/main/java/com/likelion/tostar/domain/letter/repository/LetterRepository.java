@@ -1,14 +1,30 @@
 package com.likelion.tostar.domain.letter.repository;
 
 import com.likelion.tostar.domain.letter.entity.Letter;
+import com.likelion.tostar.domain.letter.entity.LetterStatus;
 import com.likelion.tostar.domain.user.entity.User;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 
 public interface LetterRepository extends JpaRepository<Letter, Long> {
     // 해당 회원이 쓴 편지 페이징 조회(최신 데이터부터 오래된 순으로)
     Page<Letter> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+
+    // (무한 스크롤) COUNT 쿼리 없는 조회
+    Slice<Letter> findSliceByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+
+    // 생성 대기 중인 답장 (재시작 / 유실 시 재처리)
+    @Query("SELECT l.id FROM Letter l WHERE l.status = :status AND l.createdAt < :before ORDER BY l.createdAt ASC")
+    List<Long> findIdsByStatusCreatedBefore(@Param("status") LetterStatus status,
+                                            @Param("before") LocalDateTime before,
+                                            Pageable pageable);
 }
 
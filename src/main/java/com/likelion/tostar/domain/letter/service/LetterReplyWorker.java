@@ -0,0 +1,211 @@
+package com.likelion.tostar.domain.letter.service;
+
+import com.likelion.tostar.domain.letter.dto.LetterReplyPushDto;
+import com.likelion.tostar.domain.letter.entity.Letter;
+import com.likelion.tostar.domain.letter.entity.LetterStatus;
+import com.likelion.tostar.domain.letter.repository.LetterRepository;
+import com.likelion.tostar.domain.user.entity.User;
+import com.likelion.tostar.global.openAi.guard.ModelCallRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 비동기 답장 생성
+ * PENDING 상태로 저장된 받은 편지를 제한된 worker 풀에서 생성 후 저장하고 /user/queue/letters 로 알림
+ * 서버 재시작 / 큐 거절로 남은 PENDING 답장은 DB 에서 다시 조회해 재처리
+ * (서버가 여러 대면 재처리 시 같은 답장을 중복 생성할 수 있으나, 저장은 PENDING 인 경우에만 반영)
+ */
+@Slf4j
+@Component
+public class LetterReplyWorker {
+    public static final String USER_DESTINATION = "/queue/letters";
+
+    private final LetterRepository letterRepository;
+    private final LetterReplyGenerator letterReplyGenerator;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    // 이 서버에서 큐에 있거나 처리 중인 답장 id
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Timer latencyTimer;
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    @Value("${letter.reply.requeue-stale-ms:120000}")
+    private long requeueStaleMs;
+
+    @Value("${letter.reply.requeue-batch-size:100}")
+    private int requeueBatchSize;
+
+    public LetterReplyWorker(LetterRepository letterRepository,
+                             LetterReplyGenerator letterReplyGenerator,
+                             SimpMessagingTemplate messagingTemplate,
+                             @Qualifier("letterReplyExecutor") ThreadPoolTaskExecutor executor,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.letterRepository = letterRepository;
+        this.letterReplyGenerator = letterReplyGenerator;
+        this.messagingTemplate = messagingTemplate;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 메트릭
+        Gauge.builder("letter.reply.queued", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("생성 대기 중인 답장 수")
+                .register(meterRegistry);
+        Gauge.builder("letter.reply.inflight", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("생성 중인 답장 수")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("letter.reply.latency")
+                .description("편지 전송부터 답장 저장까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.completedCounter = Counter.builder("letter.reply.completed")
+                .tag("result", "completed")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("letter.reply.completed")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("letter.reply.rejected")
+                .description("큐가 가득 차 나중에 재처리할 답장 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 답장 생성 요청 (PENDING 답장이 커밋된 뒤 호출)
+     */
+    public void submit(Long replyLetterId) {
+        if (!inFlight.add(replyLetterId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> process(replyLetterId));
+        } catch (TaskRejectedException e) {
+            // PENDING 으로 남아 있으므로 주기적 재처리에서 다시 시도
+            inFlight.remove(replyLetterId);
+            rejectedCounter.increment();
+            log.warn("답장 생성 큐가 가득 참 : letterId={}", replyLetterId);
+        }
+    }
+
+    /**
+     * 서버 시작 시 남아 있는 PENDING 답장 재처리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void requeueOnStartup() {
+        requeuePendingBefore(LocalDateTime.now());
+    }
+
+    /**
+     * 큐 거절 등으로 오래 남아 있는 PENDING 답장 재처리
+     */
+    @Scheduled(fixedDelayString = "${letter.reply.requeue-interval-ms:60000}")
+    public void requeueStale() {
+        requeuePendingBefore(LocalDateTime.now().minus(Duration.ofMillis(requeueStaleMs)));
+    }
+
+    private void requeuePendingBefore(LocalDateTime before) {
+        try {
+            List<Long> pendingIds = letterRepository.findIdsByStatusCreatedBefore(
+                    LetterStatus.PENDING, before, PageRequest.ofSize(requeueBatchSize));
+            pendingIds.forEach(this::submit);
+            if (!pendingIds.isEmpty()) {
+                log.info("PENDING 답장 재처리 : {}건", pendingIds.size());
+            }
+        } catch (Exception e) {
+            log.error("PENDING 답장 재처리 조회 실패", e);
+        }
+    }
+
+    private void process(Long replyLetterId) {
+        try {
+            // 1. 답장 생성에 필요한 정보 조회 (짧은 트랜잭션)
+            ReplyJob job = transactionTemplate.execute(status -> loadJob(replyLetterId));
+            if (job == null) {
+                return;
+            }
+
+            // 2. 답장 생성 (트랜잭션 밖)
+            Optional<String> reply;
+            try {
+                reply = letterReplyGenerator.generate(job.ownerName(), job.category(), job.content());
+            } catch (ModelCallRejectedException e) {
+                // 모델 호출 거절 (circuit open / 한도 초과) : PENDING 으로 두고 주기적 재처리에서 다시 시도
+                log.info("답장 생성 보류 : letterId={}, reason={}", replyLetterId, e.getReason());
+                return;
+            } catch (Exception e) {
+                log.warn("답장 생성 실패 : letterId={}", replyLetterId, e);
+                reply = Optional.empty();
+            }
+
+            // 3. 결과 저장 (아직 PENDING 인 경우만)
+            Optional<String> result = reply;
+            LetterStatus status = transactionTemplate.execute(tx -> letterRepository.findById(replyLetterId)
+                    .filter(Letter::isPending)
+                    .map(letter -> {
+                        result.ifPresentOrElse(letter::completeReply, letter::failReply);
+                        return letter.getStatus();
+                    })
+                    .orElse(null));
+            if (status == null) {
+                return;
+            }
+
+            (status == LetterStatus.COMPLETED ? completedCounter : failedCounter).increment();
+            latencyTimer.record(Duration.between(job.requestedAt(), LocalDateTime.now()));
+
+            // 4. 알림 (접속 중이 아니면 polling 으로 확인)
+            messagingTemplate.convertAndSendToUser(job.email(), USER_DESTINATION,
+                    LetterReplyPushDto.builder()
+                            .letterId(replyLetterId)
+                            .status(status)
+                            .build());
+        } catch (Exception e) {
+            log.error("답장 처리 실패 : letterId={}", replyLetterId, e);
+        } finally {
+            inFlight.remove(replyLetterId);
+        }
+    }
+
+    private ReplyJob loadJob(Long replyLetterId) {
+        Letter reply = letterRepository.findById(replyLetterId).orElse(null);
+        if (reply == null || !reply.isPending()) {
+            return null;
+        }
+        Letter sentLetter = letterRepository.findById(reply.getReplyTo()).orElse(null);
+        if (sentLetter == null) {
+            reply.failReply();
+            return null;
+        }
+        User user = reply.getUser();
+        return new ReplyJob(user.getEmail(), user.getOwnerName(), user.getCategory(),
+                sentLetter.getContent(), reply.getCreatedAt());
+    }
+
+    private record ReplyJob(String email, String ownerName, String category, String content,
+                            LocalDateTime requestedAt) {
+    }
+}
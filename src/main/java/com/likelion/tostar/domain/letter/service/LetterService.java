@@ -2,13 +2,17 @@ package com.likelion.tostar.domain.letter.service;
 
 import com.likelion.tostar.domain.letter.dto.LetterPostRequestDto;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface LetterService {
     // 편지 생성
     ResponseEntity<?> post(Long userId, LetterPostRequestDto letterPostRequestDto);
 
+    // 편지 생성 (답장 스트리밍)
+    SseEmitter postStream(Long userId, LetterPostRequestDto letterPostRequestDto);
+
     // 편지 목록 전체 조회
-    ResponseEntity<?> searchList(Long userId, int page, int size);
+    ResponseEntity<?> searchList(Long userId, int page, int size, boolean withTotal);
 
     // 편지 상세 조회
     ResponseEntity<?> searchDetails(Long userId, Long letterId);
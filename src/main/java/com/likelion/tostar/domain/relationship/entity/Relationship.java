@@ -9,7 +9,10 @@ import lombok.*;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "Relationship")
+@Table(name = "Relationship", indexes = {
+        // 친구 여부 확인 (탐색 피드 anti-join, 친구 목록 조회)
+        @Index(name = "idx_relationship_follower_followee", columnList = "follower, followee")
+})
 public class Relationship {
 
     @Id
@@ -0,0 +1,7 @@
+package com.likelion.tostar.domain.relationship.event;
+
+/**
+ * 친구 추가 (커밋 후 타임라인 backfill)
+ */
+public record FriendAddedEvent(Long followerId, Long followeeId) {
+}
@@ -0,0 +1,7 @@
+package com.likelion.tostar.domain.relationship.event;
+
+/**
+ * 친구 삭제 (같은 트랜잭션에서 타임라인 정리)
+ */
+public record FriendRemovedEvent(Long followerId, Long followeeId) {
+}
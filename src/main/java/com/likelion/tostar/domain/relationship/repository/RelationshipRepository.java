@@ -14,4 +14,7 @@ public interface RelationshipRepository extends JpaRepository<Relationship, Long
     // 해당 followerId을 가진 모든 relationship 반환
     List<Relationship> findAllByFollower_Id(Long followerId);
 
+    // 친구 수
+    long countByFollower_Id(Long followerId);
+
 }
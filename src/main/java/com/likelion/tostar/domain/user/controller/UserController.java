@@ -68,8 +68,9 @@ public class UserController {
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
             @RequestParam("name") String petName,
             @RequestParam(value = "page", defaultValue = "0") int page,  // 디폴트 값 : 0
-            @RequestParam(value = "size", defaultValue = "5") int size) { // 디폴트 값 : 5
-        return userService.searchUser(customUserDetails.getId(), petName, page, size);
+            @RequestParam(value = "size", defaultValue = "5") int size, // 디폴트 값 : 5
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal) { // 전체 개수 필요 시 true
+        return userService.searchUser(customUserDetails.getId(), petName, page, size, withTotal);
     }
 
     /**
@@ -4,6 +4,7 @@ package com.likelion.tostar.domain.user.repository;
 import com.likelion.tostar.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
@@ -13,5 +14,7 @@ public interface UserRepository extends JpaRepository<User,Long> {
     Optional<User> findUserByEmail(String email);
     //  petName을 포함하는 User 페이지 조회
     Page<User> findByPetNameContaining(String petName, Pageable pageable);
+    //  (무한 스크롤) COUNT 쿼리 없는 조회
+    Slice<User> findSliceByPetNameContaining(String petName, Pageable pageable);
 
 }
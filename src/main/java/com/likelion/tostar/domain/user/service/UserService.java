@@ -14,7 +14,7 @@ public interface UserService {
     ResponseEntity<?> join(MultipartFile image, UserJoinDTO userJoinDTO) throws IOException;
     ResponseEntity<?> info(String email);
     ResponseEntity<?> edit(MultipartFile image, UserInfoDTO userInfoDTO, String email) throws IOException;
-    ResponseEntity<?> searchUser(Long userId, String petName, int page, int size);
+    ResponseEntity<?> searchUser(Long userId, String petName, int page, int size, boolean withTotal);
     ResponseEntity<?> searchFriend(Long userId);
     ResponseEntity<?> addFriend(Long userId, FriendDto friendDto);
     ResponseEntity<?> removeFriend(Long userId, FriendDto friendDto);
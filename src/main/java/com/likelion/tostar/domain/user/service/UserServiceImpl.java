@@ -1,6 +1,8 @@
 package com.likelion.tostar.domain.user.service;
 
 import com.likelion.tostar.domain.relationship.entity.Relationship;
+import com.likelion.tostar.domain.relationship.event.FriendAddedEvent;
+import com.likelion.tostar.domain.relationship.event.FriendRemovedEvent;
 import com.likelion.tostar.domain.relationship.repository.RelationshipRepository;
 import com.likelion.tostar.domain.user.converter.UserConverter;
 import com.likelion.tostar.domain.user.dto.*;
@@ -10,10 +12,13 @@ import com.likelion.tostar.global.enums.statuscode.ErrorStatus;
 import com.likelion.tostar.global.exception.GeneralException;
 import com.likelion.tostar.global.jwt.util.JwtUtil;
 import com.likelion.tostar.global.response.ApiResponse;
+import com.likelion.tostar.global.response.PagingHeaders;
+import com.likelion.tostar.global.s3.service.S3DeletionOutboxService;
 import com.likelion.tostar.global.s3.service.S3Service;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -35,7 +40,9 @@ public class UserServiceImpl implements UserService {
     private final JwtUtil jwtUtil;
     private final UserConverter userConverter;
     private final S3Service s3Service;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
     private final RelationshipRepository relationshipRepository;
+    private final ApplicationEventPublisher eventPublisher;
     /**
      * 로그인
      */
@@ -111,8 +118,8 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findUserByEmail(email)
                 .orElseThrow(() -> new GeneralException(ErrorStatus._USER_NOT_FOUND));
 
-        // 기존 프로필 이미지 삭제
-        s3Service.deleteFileByURL(user.getProfileImage());
+        // 기존 프로필 이미지 삭제 (outbox 기록 ; 커밋 후 백그라운드에서 S3 삭제)
+        s3DeletionOutboxService.enqueue(user.getProfileImage());
         user.changeUserInfo(userInfoDTO); // 회원 정보 수정
         if (image!=null&&!image.isEmpty()) { // 새로운 이미지 갱신시
             user.changeProfileImage(s3Service.uploadFile(image)); // 사용자 정보 갱신
@@ -127,7 +134,7 @@ public class UserServiceImpl implements UserService {
     회원 검색
      */
     @Override
-    public ResponseEntity<?> searchUser(Long userId, String petName, int page, int size) {
+    public ResponseEntity<?> searchUser(Long userId, String petName, int page, int size, boolean withTotal) {
         // 404 : 해당 회원이 실제로 존재 하는지 확인
         User foundUser = userRepository.findById(userId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus._USER_NOT_FOUND));
@@ -138,9 +145,11 @@ public class UserServiceImpl implements UserService {
                     .body(ApiResponse.onFailure(ErrorStatus._BAD_REQUEST, "잘못된 요청입니다. 검색할 애완동물 이름을 입력해주세요."));
         }
 
-        // 페이지로 받기
+        // 페이지로 받기 (전체 개수가 필요한 경우만 COUNT 쿼리)
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<User> users = userRepository.findByPetNameContaining(petName, pageRequest);
+        Slice<User> users = withTotal
+                ? userRepository.findByPetNameContaining(petName, pageRequest)
+                : userRepository.findSliceByPetNameContaining(petName, pageRequest);
 
         // 오류 확인 로그
 //        System.out.println("총 개수: " +  users.getTotalElements());
@@ -160,8 +169,9 @@ public class UserServiceImpl implements UserService {
             data.add(dto);
         }
 
-        // 200 : 검색 성공
+        // 200 : 검색 성공 (페이징 정보는 헤더로)
         return ResponseEntity.status(200)
+                .headers(PagingHeaders.of(users))
                 .body(ApiResponse.onSuccess(data));
     }
 
@@ -199,6 +209,9 @@ public class UserServiceImpl implements UserService {
                 .build();
         relationshipRepository.save(relationship);
 
+        // 커밋 후 친구의 최근 추억을 타임라인에 추가
+        eventPublisher.publishEvent(new FriendAddedEvent(follower.getId(), followee.getId()));
+
         // 200 : 친구 추가 성공
         return ResponseEntity.status(200)
                 .body(ApiResponse.onSuccess("친구 추가에 성공했습니다."));
@@ -236,8 +249,10 @@ public class UserServiceImpl implements UserService {
         }
         Relationship relationship = foundRelationship.get();
 
-        // delete
+        // delete (타임라인에서 해당 친구 추억 제거)
         relationshipRepository.delete(relationship);
+        eventPublisher.publishEvent(new FriendRemovedEvent(
+                relationship.getFollower().getId(), relationship.getFollowee().getId()));
 
         // 200 : 친구 삭제 성공
         return ResponseEntity.status(200)
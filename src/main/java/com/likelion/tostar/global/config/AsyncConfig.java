@@ -0,0 +1,97 @@
+package com.likelion.tostar.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * @Async 작업용 executor (작업 종류별로 분리해서 서로 영향 없도록)
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * 타임라인 fan-out / backfill
+     */
+    @Bean(name = "timelineExecutor")
+    public ThreadPoolTaskExecutor timelineExecutor(
+            @Value("${timeline.executor.core-size:2}") int coreSize,
+            @Value("${timeline.executor.max-size:4}") int maxSize,
+            @Value("${timeline.executor.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("timeline-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * 편지 답장 생성 (OpenAI 호출) ; 큐가 가득 차면 거절 -> DB 에 PENDING 으로 남아 주기적으로 재처리
+     */
+    @Bean(name = "letterReplyExecutor")
+    public ThreadPoolTaskExecutor letterReplyExecutor(
+            @Value("${letter.reply.executor.core-size:4}") int coreSize,
+            @Value("${letter.reply.executor.max-size:8}") int maxSize,
+            @Value("${letter.reply.executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("letter-reply-");
+        return executor;
+    }
+
+    /**
+     * 편지 답장 스트리밍 (SSE 응답 동안 모델 스트림을 읽는 스레드)
+     * 답장 worker 와 분리해 스트리밍 요청이 몰려도 PENDING 재처리가 밀리지 않도록 함
+     * 대기열 없음 : 스레드가 모두 사용 중이면 바로 거절 -> error 이벤트로 응답 (사용자가 기다리는 요청이라 쌓아두지 않음)
+     */
+    @Bean(name = "letterStreamExecutor")
+    public ThreadPoolTaskExecutor letterStreamExecutor(
+            @Value("${letter.stream.executor.core-size:4}") int coreSize,
+            @Value("${letter.stream.executor.max-size:16}") int maxSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("letter-stream-");
+        return executor;
+    }
+
+    /**
+     * S3 이미지 병렬 업로드
+     */
+    @Bean(name = "s3UploadExecutor")
+    public ThreadPoolTaskExecutor s3UploadExecutor(
+            @Value("${s3.upload.executor.core-size:8}") int coreSize,
+            @Value("${s3.upload.executor.max-size:32}") int maxSize,
+            @Value("${s3.upload.executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("s3-upload-");
+        return executor;
+    }
+
+    /**
+     * S3 삭제 outbox 처리 (DeleteObjects 블로킹 호출)
+     * 공용 @Scheduled 스케줄러에서 S3 를 기다리면 presence 브로드캐스트 등 다른 주기 작업이 밀리므로 분리
+     * 한 번에 한 작업만 실행 ; 처리 중 들어온 요청은 거절 (다음 주기에 처리)
+     */
+    @Bean(name = "s3DeletionExecutor")
+    public ThreadPoolTaskExecutor s3DeletionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("s3-deletion-");
+        return executor;
+    }
+}
@@ -0,0 +1,26 @@
+package com.likelion.tostar.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC batch INSERT 설정
+ * spring.jpa.properties.hibernate.* 에 직접 지정한 값이 있으면 그 값을 우선 사용
+ * (MySQL 은 JDBC URL 에 rewriteBatchedStatements=true 가 있어야 multi-row INSERT 로 전송됨)
+ */
+@Configuration
+public class HibernateBatchConfig {
+    @Value("${chat.persistence.batch-size:100}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer batchInsertCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.likelion.tostar.global.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Set;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.ui.ModelMap;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * open-in-view 적용 범위 설정 (spring.jpa.open-in-view=false 면 사용하지 않음)
+ * 기본 설정은 모든 요청에서 EntityManager 를 열어두고, 처음 쓴 커넥션을 요청이 끝날 때까지 잡고 있음
+ * 편지 전송은 트랜잭션 밖에서 수 초 걸리는 답장 생성을 기다리므로 open-in-view 에서 제외
+ * 추억 등록 / 수정도 트랜잭션 밖에서 S3 업로드를 기다리므로 제외
+ * (이 빈이 있으면 Spring Boot 기본 open-in-view 인터셉터는 등록되지 않음)
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "spring.jpa", name = "open-in-view", havingValue = "true", matchIfMissing = true)
+public class OpenInViewConfig implements WebMvcConfigurer {
+
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new ScopedOpenEntityManagerInViewInterceptor(Set.of(
+                "POST /api/letters",
+                "POST /api/letters/stream",
+                "POST /api/articles",
+                "PUT /api/articles/*"));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor());
+    }
+
+    /**
+     * 제외 요청("METHOD 경로 패턴")에서는 EntityManager 를 열지 않음 (repository 트랜잭션마다 커넥션을 얻고 바로 반환)
+     */
+    static class ScopedOpenEntityManagerInViewInterceptor extends OpenEntityManagerInViewInterceptor {
+        private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+        private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+        private final Set<String> excludedRequests;
+
+        ScopedOpenEntityManagerInViewInterceptor(Set<String> excludedRequests) {
+            this.excludedRequests = excludedRequests;
+        }
+
+        @Override
+        public void preHandle(WebRequest request) {
+            if (!isExcluded(request)) {
+                super.preHandle(request);
+            }
+        }
+
+        @Override
+        public void postHandle(WebRequest request, ModelMap model) {
+            if (!isExcluded(request)) {
+                super.postHandle(request, model);
+            }
+        }
+
+        @Override
+        public void afterCompletion(WebRequest request, Exception ex) {
+            if (!isExcluded(request)) {
+                super.afterCompletion(request, ex);
+            }
+        }
+
+        @Override
+        public void afterConcurrentHandlingStarted(WebRequest request) {
+            if (!isExcluded(request)) {
+                super.afterConcurrentHandlingStarted(request);
+            }
+        }
+
+        private boolean isExcluded(WebRequest request) {
+            if (!(request instanceof NativeWebRequest nativeRequest)) {
+                return false;
+            }
+            HttpServletRequest servletRequest = nativeRequest.getNativeRequest(HttpServletRequest.class);
+            if (servletRequest == null) {
+                return false;
+            }
+            String path = URL_PATH_HELPER.getPathWithinApplication(servletRequest);
+            for (String excludedRequest : excludedRequests) {
+                String[] methodAndPattern = excludedRequest.split(" ", 2);
+                if (methodAndPattern[0].equals(servletRequest.getMethod())
+                        && PATH_MATCHER.match(methodAndPattern[1], path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
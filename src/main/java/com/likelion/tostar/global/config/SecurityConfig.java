@@ -5,6 +5,8 @@ import com.likelion.tostar.global.jwt.handler.CustomAccessDeniedHandler;
 import com.likelion.tostar.global.jwt.handler.CustomAuthenticationEntryPoint;
 import com.likelion.tostar.global.jwt.service.CustomUserDetailsService;
 import com.likelion.tostar.global.jwt.util.JwtUtil;
+import com.likelion.tostar.global.response.PagingHeaders;
+import jakarta.servlet.DispatcherType;
 import java.util.Collections;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -40,6 +42,8 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(permitAllPaths).permitAll()
+                        // SSE 등 비동기 응답의 재 dispatch (최초 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .anyRequest().authenticated()
                 )
                 .formLogin(AbstractHttpConfigurer::disable)
@@ -50,6 +54,7 @@ public class SecurityConfig {
                     configuration.setAllowedMethods(Collections.singletonList("*"));
                     configuration.setAllowCredentials(true);
                     configuration.setAllowedHeaders(Collections.singletonList("*"));
+                    configuration.setExposedHeaders(PagingHeaders.EXPOSED_HEADERS);
                     configuration.setMaxAge(3600L);
 
                     return configuration;
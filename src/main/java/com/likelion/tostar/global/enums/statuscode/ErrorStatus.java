@@ -42,6 +42,7 @@ public enum ErrorStatus implements BaseCode {
 	_NOT_OWNER_OF_LETTER(HttpStatus.FORBIDDEN, "LETTER4031", "해당 편지의 주인이 아닙니다."),
 	_LETTER_NOT_FOUND(HttpStatus.NOT_FOUND, "LETTER4041", "해당 편지를 찾을 수 없습니다."),
 	_OPENAI_RESPONSE_NOT_RECEIVED(HttpStatus.BAD_GATEWAY, "LETTER502", "OpenAI 응답이 없습니다."),
+	_LETTER_STREAM_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "LETTER503", "답장 생성 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
 
 	// S3 Error
 	_S3_UPLOAD_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "S35001", "S3에 파일 업로드 중 오류가 발생했습니다."),
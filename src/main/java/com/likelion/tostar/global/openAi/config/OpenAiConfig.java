@@ -1,26 +1,76 @@
 package com.likelion.tostar.global.openAi.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+/**
+ * OpenAI 호출용 RestTemplate
+ * - http1 (기본) : Apache HttpClient 5 커넥션 풀 (keep-alive 재사용, 풀 메트릭)
+ * - http2 : JDK HttpClient (한 커넥션에서 요청 다중화)
+ * 연결 / 응답 대기 시간 제한으로 upstream 이 멈춰도 요청 스레드가 무한히 묶이지 않도록 함
+ * 요청 지연 메트릭은 RestTemplateBuilder 의 observation 으로 http.client.requests 에 기록
+ */
+@Slf4j
 @Configuration
 public class OpenAiConfig {
     // api key
     @Value("${openai.api.key}")
     private String openAiKey;
 
+    @Value("${openai.http.version:http1}")
+    private String httpVersion;
+    @Value("${openai.http.max-connections:50}")
+    private int maxConnections;
+    @Value("${openai.http.connect-timeout-ms:3000}")
+    private long connectTimeoutMs;
+    // 풀에서 커넥션을 빌릴 때까지 기다리는 최대 시간
+    @Value("${openai.http.lease-timeout-ms:2000}")
+    private long leaseTimeoutMs;
+    // 응답(스트리밍이면 다음 조각)을 기다리는 최대 시간
+    @Value("${openai.http.read-timeout-ms:60000}")
+    private long readTimeoutMs;
+    @Value("${openai.http.idle-evict-ms:30000}")
+    private long idleEvictMs;
+
+    private CloseableHttpClient pooledHttpClient;
+    private HttpClient http2Client;
+    private ExecutorService http2Executor;
+
     // RestTemplate Bean 설정하기
     @Bean
-    public RestTemplate template(){
-        RestTemplate restTemplate = new RestTemplate();
+    public RestTemplate template(RestTemplateBuilder restTemplateBuilder, MeterRegistry meterRegistry){
+        RestTemplate restTemplate = restTemplateBuilder
+                .requestFactory(() -> openAiRequestFactory(meterRegistry))
+                .build();
         restTemplate.getInterceptors().add(new ClientHttpRequestInterceptor() {
             @Override
             public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
@@ -32,4 +82,72 @@ public class OpenAiConfig {
 
         return restTemplate;
     }
-}
\ No newline at end of file
+
+    private ClientHttpRequestFactory openAiRequestFactory(MeterRegistry meterRegistry) {
+        if ("http2".equalsIgnoreCase(httpVersion)) {
+            // 종료 시 정리할 수 있도록 내부 작업 스레드 풀을 직접 지정 (기본값은 종료 수단이 없는 내부 풀)
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("openai-http2-");
+            threadFactory.setDaemon(true);
+            http2Executor = Executors.newCachedThreadPool(threadFactory);
+            http2Client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                    .executor(http2Executor)
+                    .build();
+            JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(http2Client);
+            requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+            log.info("OpenAI HTTP client : JDK HttpClient (HTTP/2)");
+            return requestFactory;
+        }
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections) // 호출 대상이 OpenAI 하나뿐이라 전체 = route 당
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .build();
+        pooledHttpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(leaseTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictMs))
+                .build();
+
+        // 커넥션 풀 메트릭
+        Gauge.builder("openai.http.pool.leased", connectionManager, cm -> cm.getTotalStats().getLeased())
+                .description("사용 중인 커넥션 수")
+                .register(meterRegistry);
+        Gauge.builder("openai.http.pool.available", connectionManager, cm -> cm.getTotalStats().getAvailable())
+                .description("재사용 대기 중인 커넥션 수")
+                .register(meterRegistry);
+        Gauge.builder("openai.http.pool.pending", connectionManager, cm -> cm.getTotalStats().getPending())
+                .description("커넥션을 기다리는 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("openai.http.pool.max", connectionManager, cm -> cm.getTotalStats().getMax())
+                .register(meterRegistry);
+
+        log.info("OpenAI HTTP client : Apache HttpClient 5 (pool max {})", maxConnections);
+        return new HttpComponentsClientHttpRequestFactory(pooledHttpClient);
+    }
+
+    @PreDestroy
+    public void closeHttpClient() throws Exception {
+        if (pooledHttpClient != null) {
+            pooledHttpClient.close();
+        }
+        if (http2Client != null) {
+            // JDK 21 부터 HttpClient 는 AutoCloseable (커넥션, selector 스레드 정리)
+            // JDK 17 은 close 가 없으므로 작업 스레드 풀을 종료하고 참조를 놓아 GC 시 selector 가 정리되도록 함
+            if (http2Client instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+            http2Executor.shutdownNow();
+            http2Client = null;
+        }
+    }
+}
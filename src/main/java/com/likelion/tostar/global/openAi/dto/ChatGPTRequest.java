@@ -1,5 +1,6 @@
 package com.likelion.tostar.global.openAi.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 import java.util.ArrayList;
 import java.util.List;
@@ -12,6 +13,8 @@ public class ChatGPTRequest {
 
     private String model;
     private List<Message> messages; // 대화 리스트
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean stream; // true 면 답장을 조각(SSE)으로 받음
 
     public ChatGPTRequest(String model, String prompt) {
         this.model = model; // openAI 모델 설정 (현재 4o)
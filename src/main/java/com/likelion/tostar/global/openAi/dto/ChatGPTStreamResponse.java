@@ -0,0 +1,36 @@
+package com.likelion.tostar.global.openAi.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * gpt 스트리밍 응답(stream: true)의 조각 하나 ("data: {...}" 한 줄)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatGPTStreamResponse {
+    private List<Choice> choices;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Choice { // message 대신 이어붙일 delta 가 옴
+        private int index;
+        private Message delta;
+        @JsonProperty("finish_reason")
+        private String finishReason;
+    }
+
+    // 이번 조각의 답장 내용 (없으면 null)
+    public String deltaContent() {
+        if (choices == null || choices.isEmpty() || choices.get(0).getDelta() == null) {
+            return null;
+        }
+        return choices.get(0).getDelta().getContent();
+    }
+}
@@ -0,0 +1,340 @@
+package com.likelion.tostar.global.openAi.guard;
+
+import com.likelion.tostar.global.openAi.guard.ModelCallRejectedException.Reason;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모델(OpenAI) 호출 보호
+ * - bulkhead : 동시 호출 수 제한 + 제한된 대기열 (대기열이 차거나 대기 시간이 지나면 거절)
+ * - 적응형 한도 (AIMD) : 응답이 목표 지연 이내면 한도를 조금씩 늘리고, 느리거나 실패하면 비율로 줄임
+ *   목표 지연 = 최근 지연의 이동 평균(EWMA) x latency-tolerance (고정값 대신 평소 지연 기준, 호출 종류별)
+ * - 스트리밍 호출은 첫 조각까지의 시간으로 판단 (전체 시간은 답장 길이에 비례하므로 느린 호출로 보지 않음)
+ * - circuit breaker : 최근 호출의 실패(느린 호출 포함) 비율이 기준을 넘으면 일정 시간 호출 없이 바로 실패,
+ *   이후 소수의 시험 호출이 성공하면 복구
+ */
+@Slf4j
+@Component
+public class ModelCallGuard {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    // 지연 기준을 따로 두는 호출 종류 (전체 응답 vs 첫 조각)
+    private enum CallType {
+        COMPLETE, STREAM
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    // ===== bulkhead / 적응형 한도 =====
+    private final int minLimit;
+    private final int maxLimit;
+    private final int queueCapacity;
+    private final long queueTimeoutNanos;
+    private final double latencyTolerance;
+    private final double baselineAlpha;
+    private final long minTargetLatencyNanos;
+    private final double backoffRatio;
+    private final double[] baselineNanos = new double[CallType.values().length]; // 0 = 아직 관측 없음
+    private volatile double limit;
+    private volatile int inFlight;
+    private volatile int waiting;
+
+    // ===== circuit breaker =====
+    private final boolean[] outcomes; // 최근 호출 결과 (true = 실패)
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final long openDurationNanos;
+    private final int halfOpenPermits;
+    private volatile State state = State.CLOSED;
+    private int outcomeIndex;
+    private int outcomeCount;
+    private int failureCount;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    private final Map<Reason, Counter> rejectedCounters = new EnumMap<>(Reason.class);
+    private final Counter successCounter;
+    private final Counter failureCounter;
+
+    public ModelCallGuard(
+            MeterRegistry meterRegistry,
+            @Value("${openai.guard.initial-limit:10}") int initialLimit,
+            @Value("${openai.guard.min-limit:2}") int minLimit,
+            @Value("${openai.guard.max-limit:50}") int maxLimit,
+            @Value("${openai.guard.queue-capacity:50}") int queueCapacity,
+            @Value("${openai.guard.queue-timeout-ms:2000}") long queueTimeoutMs,
+            @Value("${openai.guard.latency-tolerance:2.0}") double latencyTolerance,
+            @Value("${openai.guard.baseline-alpha:0.05}") double baselineAlpha,
+            @Value("${openai.guard.min-target-latency-ms:1000}") long minTargetLatencyMs,
+            @Value("${openai.guard.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${openai.guard.window-size:20}") int windowSize,
+            @Value("${openai.guard.minimum-calls:10}") int minimumCalls,
+            @Value("${openai.guard.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${openai.guard.slow-call-ms:30000}") long slowCallMs,
+            @Value("${openai.guard.open-duration-ms:30000}") long openDurationMs,
+            @Value("${openai.guard.half-open-permits:2}") int halfOpenPermits) {
+        this.minLimit = Math.max(minLimit, 1);
+        this.maxLimit = Math.max(maxLimit, this.minLimit);
+        this.limit = Math.min(Math.max(initialLimit, this.minLimit), this.maxLimit);
+        this.queueCapacity = queueCapacity;
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMs);
+        this.latencyTolerance = Math.max(latencyTolerance, 1.0);
+        this.baselineAlpha = Math.min(Math.max(baselineAlpha, 0.0), 1.0);
+        this.minTargetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(minTargetLatencyMs);
+        this.backoffRatio = backoffRatio;
+        this.outcomes = new boolean[Math.max(windowSize, 1)];
+        this.minimumCalls = Math.min(Math.max(minimumCalls, 1), outcomes.length);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMs);
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+        this.halfOpenPermits = Math.max(halfOpenPermits, 1);
+
+        // 메트릭
+        Gauge.builder("openai.guard.limit", this, guard -> Math.floor(guard.limit))
+                .description("현재 동시 호출 한도 (적응형)")
+                .register(meterRegistry);
+        Gauge.builder("openai.guard.inflight", this, guard -> guard.inFlight)
+                .register(meterRegistry);
+        Gauge.builder("openai.guard.queued", this, guard -> guard.waiting)
+                .description("호출 차례를 기다리는 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("openai.guard.circuit.state", this, guard -> guard.state.ordinal())
+                .description("0 = closed, 1 = half-open, 2 = open")
+                .register(meterRegistry);
+        for (CallType type : CallType.values()) {
+            Gauge.builder("openai.guard.latency.baseline", this,
+                            guard -> TimeUnit.NANOSECONDS.toMillis((long) guard.baselineNanos[type.ordinal()]))
+                    .description("지연 이동 평균 (ms) ; 목표 지연 = 이 값 x latency-tolerance")
+                    .tag("type", type.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+        }
+        for (Reason reason : Reason.values()) {
+            rejectedCounters.put(reason, Counter.builder("openai.guard.rejected")
+                    .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        this.successCounter = Counter.builder("openai.guard.calls").tag("outcome", "success").register(meterRegistry);
+        this.failureCounter = Counter.builder("openai.guard.calls").tag("outcome", "failure").register(meterRegistry);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 보호된 모델 호출 ; 거절되면 ModelCallRejectedException (호출하지 않음)
+     * call 에서 예외가 나면 실패로 기록하고 그대로 전달
+     */
+    public <T> T execute(Supplier<T> call) {
+        return guard(CallType.COMPLETE, firstChunk -> call.get());
+    }
+
+    /**
+     * 보호된 스트리밍 호출 ; call 은 첫 조각을 받으면 전달받은 Runnable 을 호출 (두 번째부터는 무시)
+     * 지연 판단(한도 조정, 느린 호출)은 첫 조각까지의 시간 기준, 동시 호출 수는 스트림이 끝날 때까지 차지
+     * 첫 조각 없이 끝나면 전체 시간 기준
+     */
+    public <T> T executeStream(Function<Runnable, T> call) {
+        return guard(CallType.STREAM, call);
+    }
+
+    private <T> T guard(CallType type, Function<Runnable, T> call) {
+        boolean trial = acquire();
+        long start = System.nanoTime();
+        AtomicLong firstChunkNanos = new AtomicLong(-1);
+        Runnable onFirstChunk = () -> firstChunkNanos.compareAndSet(-1, System.nanoTime() - start);
+        boolean success = false;
+        try {
+            T result = call.apply(onFirstChunk);
+            success = true;
+            return result;
+        } finally {
+            long latency = firstChunkNanos.get() >= 0 ? firstChunkNanos.get() : System.nanoTime() - start;
+            release(trial, type, latency, success);
+        }
+    }
+
+    // 호출 허가 획득 ; 반환값은 half-open 시험 호출 여부
+    private boolean acquire() {
+        lock.lock();
+        try {
+            boolean trial = checkCircuit();
+            if (trial) {
+                // 시험 호출은 대기열을 거치지 않음
+                halfOpenInFlight++;
+                inFlight++;
+                return true;
+            }
+            if (inFlight < currentLimit()) {
+                inFlight++;
+                return false;
+            }
+            if (waiting >= queueCapacity) {
+                throw reject(Reason.QUEUE_FULL);
+            }
+
+            waiting++;
+            try {
+                long remaining = queueTimeoutNanos;
+                while (inFlight >= currentLimit()) {
+                    if (remaining <= 0) {
+                        throw reject(Reason.QUEUE_TIMEOUT);
+                    }
+                    remaining = permitReleased.awaitNanos(remaining);
+                    // 기다리는 동안 circuit 이 열렸으면 바로 실패
+                    if (state == State.OPEN) {
+                        throw reject(Reason.CIRCUIT_OPEN);
+                    }
+                }
+                inFlight++;
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw reject(Reason.QUEUE_TIMEOUT);
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // circuit 상태 확인 (lock 안에서) ; half-open 시험 호출이면 true
+    private boolean checkCircuit() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                throw reject(Reason.CIRCUIT_OPEN);
+            }
+            state = State.HALF_OPEN;
+            halfOpenInFlight = 0;
+            halfOpenSuccesses = 0;
+            log.info("OpenAI circuit half-open");
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight + halfOpenSuccesses >= halfOpenPermits) {
+                throw reject(Reason.CIRCUIT_OPEN);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private void release(boolean trial, CallType type, long latencyNanos, boolean success) {
+        boolean failure = !success || latencyNanos > slowCallNanos;
+        (failure ? failureCounter : successCounter).increment();
+
+        lock.lock();
+        try {
+            inFlight--;
+            adjustLimit(type, latencyNanos, success);
+
+            if (trial) {
+                halfOpenInFlight--;
+                if (state == State.HALF_OPEN) {
+                    if (failure) {
+                        open();
+                    } else if (++halfOpenSuccesses >= halfOpenPermits) {
+                        close();
+                    }
+                }
+            } else if (state == State.CLOSED) {
+                recordOutcome(failure);
+                if (outcomeCount >= minimumCalls
+                        && (double) failureCount / outcomeCount >= failureRateThreshold) {
+                    open();
+                }
+            }
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // AIMD : 목표 지연 이내 성공이면 +1/limit (한도만큼 성공하면 +1), 아니면 backoffRatio 배 (lock 안에서)
+    // 성공한 호출의 지연으로 기준(EWMA)을 갱신 ; 일시적인 지연 증가는 목표를 넘어 한도를 줄이고,
+    // 모델 변경 등으로 평소 지연 자체가 바뀌면 기준이 천천히 따라감
+    private void adjustLimit(CallType type, long latencyNanos, boolean success) {
+        if (success && latencyNanos <= targetLatencyNanos(type)) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        } else {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        }
+        if (success) {
+            double baseline = baselineNanos[type.ordinal()];
+            baselineNanos[type.ordinal()] = (baseline == 0)
+                    ? latencyNanos
+                    : baseline + baselineAlpha * (latencyNanos - baseline);
+        }
+    }
+
+    // 목표 지연 : 기준 x tolerance (최소 min-target-latency) ; 아직 관측이 없으면 제한 없음
+    private double targetLatencyNanos(CallType type) {
+        double baseline = baselineNanos[type.ordinal()];
+        if (baseline == 0) {
+            return Double.MAX_VALUE;
+        }
+        return Math.max(baseline * latencyTolerance, minTargetLatencyNanos);
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+
+    private void recordOutcome(boolean failure) {
+        if (outcomeCount == outcomes.length) {
+            if (outcomes[outcomeIndex]) {
+                failureCount--;
+            }
+        } else {
+            outcomeCount++;
+        }
+        outcomes[outcomeIndex] = failure;
+        if (failure) {
+            failureCount++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        resetOutcomes();
+        log.warn("OpenAI circuit open : {}ms 동안 호출 차단", TimeUnit.NANOSECONDS.toMillis(openDurationNanos));
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        resetOutcomes();
+        log.info("OpenAI circuit closed");
+    }
+
+    private void resetOutcomes() {
+        outcomeIndex = 0;
+        outcomeCount = 0;
+        failureCount = 0;
+    }
+
+    private ModelCallRejectedException reject(Reason reason) {
+        rejectedCounters.get(reason).increment();
+        return new ModelCallRejectedException(reason);
+    }
+}
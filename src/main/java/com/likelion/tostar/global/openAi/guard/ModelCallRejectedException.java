@@ -0,0 +1,22 @@
+package com.likelion.tostar.global.openAi.guard;
+
+import com.likelion.tostar.global.enums.statuscode.ErrorStatus;
+import com.likelion.tostar.global.exception.GeneralException;
+import lombok.Getter;
+
+/**
+ * 모델 호출 거절 (circuit open / 동시 호출 한도 초과) ; 호출 자체를 하지 않고 바로 실패
+ */
+@Getter
+public class ModelCallRejectedException extends GeneralException {
+    private final Reason reason;
+
+    public ModelCallRejectedException(Reason reason) {
+        super(ErrorStatus._OPENAI_RESPONSE_NOT_RECEIVED);
+        this.reason = reason;
+    }
+
+    public enum Reason {
+        CIRCUIT_OPEN, QUEUE_FULL, QUEUE_TIMEOUT
+    }
+}
@@ -0,0 +1,39 @@
+package com.likelion.tostar.global.response;
+
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 목록 조회 페이징 정보 응답 헤더 (응답 body 형식은 기존과 동일하게 유지)
+ * X-Has-Next : 다음 페이지 존재 여부
+ * X-Next-Cursor : 다음 페이지 요청 시 cursor 파라미터로 전달할 값 (커서 페이징 API 만)
+ * X-Total-Count : 전체 개수 (withTotal=true 로 Page 조회한 경우만 ; 기본은 COUNT 쿼리 없는 Slice)
+ */
+public final class PagingHeaders {
+    public static final String HAS_NEXT = "X-Has-Next";
+    public static final String NEXT_CURSOR = "X-Next-Cursor";
+    public static final String TOTAL_COUNT = "X-Total-Count";
+    // CORS 로 브라우저에 노출할 헤더
+    public static final List<String> EXPOSED_HEADERS = List.of(HAS_NEXT, NEXT_CURSOR, TOTAL_COUNT);
+
+    private PagingHeaders() {
+    }
+
+    public static HttpHeaders of(Slice<?> slice) {
+        return of(slice, null);
+    }
+
+    public static HttpHeaders of(Slice<?> slice, String nextCursor) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HAS_NEXT, String.valueOf(slice.hasNext()));
+        if (slice.hasNext() && nextCursor != null) {
+            headers.set(NEXT_CURSOR, nextCursor);
+        }
+        if (slice instanceof Page<?> page) {
+            headers.set(TOTAL_COUNT, String.valueOf(page.getTotalElements()));
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,43 @@
+package com.likelion.tostar.global.s3.entity;
+
+import com.likelion.tostar.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * S3 삭제 대기 목록 (transactional outbox)
+ * 삭제 요청을 업무 트랜잭션 안에서 기록하고, 커밋된 것만 백그라운드에서 S3 일괄 삭제
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "S3DeletionOutbox", indexes = {
+        // 처리 대상 조회 (next_attempt_at <= now 순서대로)
+        @Index(name = "idx_s3_deletion_outbox_next_attempt_at", columnList = "next_attempt_at, id")
+})
+public class S3DeletionOutbox extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "url", nullable = false, length = 1024)
+    private String url;
+
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // ========== 편의 메서드 ===========
+    // 실패 시 재시도 시각 연기
+    public void retryAt(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
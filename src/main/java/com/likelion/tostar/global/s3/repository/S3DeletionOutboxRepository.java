@@ -0,0 +1,23 @@
+package com.likelion.tostar.global.s3.repository;
+
+import com.likelion.tostar.global.s3.entity.S3DeletionOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface S3DeletionOutboxRepository extends JpaRepository<S3DeletionOutbox, Long> {
+
+    // 지금 처리할 차례인 삭제 요청 (오래된 순)
+    @Query("SELECT o FROM S3DeletionOutbox o WHERE o.nextAttemptAt <= :now ORDER BY o.nextAttemptAt ASC, o.id ASC")
+    List<S3DeletionOutbox> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 가장 오래 대기 중인 요청의 생성 시각 (지연 메트릭)
+    @Query("SELECT MIN(o.createdAt) FROM S3DeletionOutbox o")
+    Optional<LocalDateTime> findOldestCreatedAt();
+}
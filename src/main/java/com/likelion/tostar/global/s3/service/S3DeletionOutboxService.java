@@ -0,0 +1,200 @@
+package com.likelion.tostar.global.s3.service;
+
+import com.likelion.tostar.global.s3.entity.S3DeletionOutbox;
+import com.likelion.tostar.global.s3.repository.S3DeletionOutboxRepository;
+import com.likelion.tostar.global.s3.service.S3Service.DeleteResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * S3 객체 삭제 outbox
+ * 서비스 트랜잭션에서는 삭제 요청만 기록하고(같은 트랜잭션에 커밋/롤백),
+ * 스케줄러가 S3 다중 객체 삭제(DeleteObjects)로 일괄 처리 ; 실패 건은 지수 백오프로 재시도
+ * S3 호출은 전용 executor(s3DeletionExecutor)에서 실행 ; 공용 스케줄러 스레드를 잡지 않음
+ */
+@Slf4j
+@Service
+public class S3DeletionOutboxService {
+    // S3 DeleteObjects 요청 1건당 최대 객체 수
+    private static final int S3_MAX_DELETE_KEYS = 1000;
+
+    private final S3DeletionOutboxRepository outboxRepository;
+    private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor deletionExecutor;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter deletedCounter;
+    private final Counter retriedCounter;
+    private final Counter abandonedCounter;
+
+    public S3DeletionOutboxService(
+            S3DeletionOutboxRepository outboxRepository,
+            S3Service s3Service,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("s3DeletionExecutor") TaskExecutor deletionExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${s3.deletion-outbox.batch-size:500}") int batchSize,
+            @Value("${s3.deletion-outbox.max-attempts:10}") int maxAttempts,
+            @Value("${s3.deletion-outbox.initial-backoff-ms:1000}") long initialBackoffMs,
+            @Value("${s3.deletion-outbox.max-backoff-ms:600000}") long maxBackoffMs) {
+        this.outboxRepository = outboxRepository;
+        this.s3Service = s3Service;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deletionExecutor = deletionExecutor;
+        this.batchSize = Math.min(Math.max(batchSize, 1), S3_MAX_DELETE_KEYS);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+
+        // 메트릭 (값은 처리 주기마다 갱신)
+        Gauge.builder("s3.deletion.outbox.depth", depth, AtomicLong::get)
+                .description("삭제 대기 중인 S3 객체 수")
+                .register(meterRegistry);
+        Gauge.builder("s3.deletion.outbox.lag", lagSeconds, AtomicLong::get)
+                .description("가장 오래 대기 중인 삭제 요청의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("s3.deletion.outbox.deleted").register(meterRegistry);
+        this.retriedCounter = Counter.builder("s3.deletion.outbox.retried").register(meterRegistry);
+        this.abandonedCounter = Counter.builder("s3.deletion.outbox.abandoned")
+                .description("최대 재시도 횟수를 넘기거나 URL 이 잘못되어 포기한 삭제 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * S3 삭제 요청 기록 (호출한 서비스의 트랜잭션에 참여)
+     */
+    @Transactional
+    public void enqueue(String url) {
+        if (url == null || url.isEmpty()) {
+            return;
+        }
+        outboxRepository.save(S3DeletionOutbox.builder()
+                .url(url)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Transactional
+    public void enqueueAll(Collection<String> urls) {
+        List<S3DeletionOutbox> outboxes = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (String url : urls) {
+            if (url != null && !url.isEmpty()) {
+                outboxes.add(S3DeletionOutbox.builder().url(url).nextAttemptAt(now).build());
+            }
+        }
+        outboxRepository.saveAll(outboxes);
+    }
+
+    /**
+     * 대기 중인 삭제 요청 처리
+     * 처리 대상이 batchSize 만큼 꽉 차 있으면 남은 것도 이어서 처리
+     * (인스턴스가 여러 대여도 S3 삭제는 멱등이라 중복 처리되어도 무방)
+     */
+    @Scheduled(fixedDelayString = "${s3.deletion-outbox.poll-interval-ms:5000}")
+    public void drain() {
+        // 이전 처리가 아직 진행 중이면 이번 주기는 건너뜀
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            deletionExecutor.execute(this::drainAll);
+        } catch (TaskRejectedException e) {
+            draining.set(false);
+        }
+    }
+
+    private void drainAll() {
+        try {
+            int processed;
+            do {
+                processed = drainBatch();
+            } while (processed == batchSize);
+        } catch (Exception e) {
+            log.error("S3 삭제 outbox 처리 실패", e);
+        } finally {
+            draining.set(false);
+            refreshMetrics();
+        }
+    }
+
+    private int drainBatch() {
+        List<S3DeletionOutbox> due = outboxRepository.findDue(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        // S3 호출은 트랜잭션 밖에서
+        List<String> urls = due.stream().map(S3DeletionOutbox::getUrl).toList();
+        DeleteResult result = s3Service.deleteFilesByURL(urls);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<S3DeletionOutbox> done = new ArrayList<>();
+            for (S3DeletionOutbox outbox : due) {
+                if (result.invalidUrls().contains(outbox.getUrl())) {
+                    // 파일명 추출 불가 : 재시도해도 같은 결과라 바로 포기
+                    log.error("S3 삭제 URL 이 잘못되어 포기 : {}", outbox.getUrl());
+                    abandonedCounter.increment();
+                    done.add(outbox);
+                } else if (!result.failedUrls().contains(outbox.getUrl())) {
+                    deletedCounter.increment();
+                    done.add(outbox);
+                } else if (outbox.getAttempts() + 1 >= maxAttempts) {
+                    log.error("S3 삭제 재시도 초과로 포기 : {}", outbox.getUrl());
+                    abandonedCounter.increment();
+                    done.add(outbox);
+                } else {
+                    outbox.retryAt(LocalDateTime.now().plus(backoff(outbox.getAttempts())));
+                    outboxRepository.save(outbox);
+                    retriedCounter.increment();
+                }
+            }
+            outboxRepository.deleteAllInBatch(done);
+        });
+        return due.size();
+    }
+
+    // 지수 백오프 (initial * 2^attempts, 최대 maxBackoffMs)
+    private Duration backoff(int attempts) {
+        long delay = initialBackoffMs << Math.min(attempts, 20);
+        return Duration.ofMillis(Math.min(delay, maxBackoffMs));
+    }
+
+    private void refreshMetrics() {
+        try {
+            depth.set(outboxRepository.count());
+            lagSeconds.set(outboxRepository.findOldestCreatedAt()
+                    .map(oldest -> Math.max(Duration.between(oldest, LocalDateTime.now()).toSeconds(), 0))
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.warn("S3 삭제 outbox 메트릭 갱신 실패", e);
+        }
+    }
+}
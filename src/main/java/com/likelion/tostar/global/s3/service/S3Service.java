@@ -3,28 +3,122 @@ package com.likelion.tostar.global.s3.service;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.likelion.tostar.global.enums.statuscode.ErrorStatus;
 import com.likelion.tostar.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
     private final AmazonS3Client s3Client;
+    @Qualifier("s3UploadExecutor")
+    private final AsyncTaskExecutor s3UploadExecutor;
 
     @Value("${s3.bucket}")
     private String bucket;
 
+    // 요청 1건당 동시 업로드 수
+    @Value("${s3.upload.max-concurrency-per-request:5}")
+    private int maxConcurrencyPerRequest;
+
+    // 여러 파일 업로드 전체 제한 시간
+    @Value("${s3.upload.timeout-ms:30000}")
+    private long uploadTimeoutMs;
+
+    /**
+     * 여러 파일 병렬 업로드 (반환 URL 순서 = 입력 순서)
+     * 하나라도 실패하거나 제한 시간을 넘으면 이미 업로드된 파일은 삭제 후 예외
+     */
+    public List<String> uploadFiles(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Semaphore permits = new Semaphore(Math.max(maxConcurrencyPerRequest, 1));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(uploadTimeoutMs);
+        UploadBatch batch = new UploadBatch();
+        List<CompletableFuture<String>> uploads = new ArrayList<>(files.size());
+        try {
+            for (MultipartFile file : files) {
+                // 동시 업로드 수 제한 : 호출 스레드에서 permit 을 얻은 뒤 제출 (업로드 스레드는 permit 대기로 막히지 않음)
+                if (!permits.tryAcquire(remainingNanos(deadline), TimeUnit.NANOSECONDS)) {
+                    throw new TimeoutException();
+                }
+                // 앞선 업로드가 실패했으면 남은 파일은 제출하지 않음
+                if (uploads.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                    permits.release();
+                    break;
+                }
+                CompletableFuture<String> upload;
+                try {
+                    upload = CompletableFuture.supplyAsync(() -> uploadInBatch(file, batch), s3UploadExecutor);
+                } catch (RejectedExecutionException e) {
+                    permits.release();
+                    throw e;
+                }
+                upload.whenComplete((url, ex) -> permits.release());
+                uploads.add(upload);
+            }
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new))
+                    .get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            abort(batch, uploads);
+            throw new GeneralException(ErrorStatus._S3_UPLOAD_FAIL);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(batch, uploads);
+            throw new GeneralException(ErrorStatus._S3_UPLOAD_FAIL);
+        } catch (ExecutionException e) {
+            abort(batch, uploads);
+            if (e.getCause() instanceof GeneralException generalException) {
+                throw generalException;
+            }
+            throw new GeneralException(ErrorStatus._S3_UPLOAD_FAIL);
+        } catch (RejectedExecutionException e) {
+            abort(batch, uploads);
+            throw new GeneralException(ErrorStatus._S3_UPLOAD_FAIL);
+        }
+
+        List<String> urls = new ArrayList<>(uploads.size());
+        for (CompletableFuture<String> upload : uploads) {
+            urls.add(upload.join());
+        }
+        return urls;
+    }
+
     // 파일 업로드 메서드
     public String uploadFile(MultipartFile file) throws IOException {
         String fileName = UUID.randomUUID().toString() + "_" + file.getOriginalFilename();
@@ -51,6 +145,67 @@ public class S3Service {
         return fileUrl.toString();
     }
 
+    private String uploadInBatch(MultipartFile file, UploadBatch batch) {
+        // 이미 실패한 요청이면 남은 파일은 올리지 않음
+        if (batch.aborted) {
+            throw new CancellationException();
+        }
+        try {
+            String url = uploadFile(file);
+            batch.uploaded.add(url);
+            // 업로드 도중 요청이 실패했다면 직접 정리
+            if (batch.aborted && batch.uploaded.remove(url)) {
+                deleteQuietly(url);
+            }
+            return url;
+        } catch (IOException e) {
+            throw new GeneralException(ErrorStatus._S3_FILE_PROCESSING_ERROR);
+        }
+    }
+
+    private static long remainingNanos(long deadline) {
+        return Math.max(deadline - System.nanoTime(), 0);
+    }
+
+    // 실패 시 정리 : 대기 중인 업로드 취소, 이미 올라간 파일 삭제
+    private void abort(UploadBatch batch, List<CompletableFuture<String>> uploads) {
+        batch.aborted = true;
+        uploads.forEach(upload -> upload.cancel(false));
+        String url;
+        while ((url = batch.uploaded.poll()) != null) {
+            deleteQuietly(url);
+        }
+    }
+
+    private void deleteQuietly(String url) {
+        try {
+            deleteFileByURL(url);
+        } catch (GeneralException e) {
+            log.warn("업로드 실패 정리 중 S3 삭제 실패 : {}", url);
+        }
+    }
+
+    // 한 요청에서 올린 파일 목록 (정리는 먼저 꺼낸 쪽이 담당)
+    private static class UploadBatch {
+        private volatile boolean aborted;
+        private final Queue<String> uploaded = new ConcurrentLinkedQueue<>();
+    }
+
+    // 파일 내용 해시 (SHA-256, hex)
+    public String hashContent(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new GeneralException(ErrorStatus._S3_FILE_PROCESSING_ERROR);
+        }
+    }
+
     // S3주소로 파일 삭제
     public void deleteFileByURL(String s3URL) {
         // <Multipart Image>
@@ -64,6 +219,52 @@ public class S3Service {
     }
 
 
+    /**
+     * 여러 파일 일괄 삭제 (S3 DeleteObjects, 최대 1000개)
+     * 삭제에 실패한 URL(재시도 대상)과 파일명을 추출할 수 없는 URL(재시도 무의미)을 나눠서 반환
+     */
+    public DeleteResult deleteFilesByURL(List<String> s3URLs) {
+        Set<String> failedUrls = new HashSet<>();
+        Set<String> invalidUrls = new HashSet<>();
+        Map<String, String> urlsByKey = new HashMap<>();
+        for (String s3URL : s3URLs) {
+            if (s3URL == null || s3URL.isEmpty()) {
+                continue;
+            }
+            try {
+                urlsByKey.put(extractFileNameFromUrl(s3URL), s3URL);
+            } catch (GeneralException e) {
+                invalidUrls.add(s3URL);
+            }
+        }
+        if (urlsByKey.isEmpty()) {
+            return new DeleteResult(failedUrls, invalidUrls);
+        }
+
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                .withKeys(urlsByKey.keySet().toArray(String[]::new))
+                .withQuiet(true);
+        try {
+            s3Client.deleteObjects(request);
+        } catch (MultiObjectDeleteException e) {
+            // 일부만 실패
+            for (MultiObjectDeleteException.DeleteError error : e.getErrors()) {
+                failedUrls.add(urlsByKey.get(error.getKey()));
+            }
+        } catch (SdkClientException e) { // AmazonServiceException 포함
+            log.warn("S3 일괄 삭제 실패 : {}건", urlsByKey.size(), e);
+            failedUrls.addAll(urlsByKey.values());
+        }
+        return new DeleteResult(failedUrls, invalidUrls);
+    }
+
+    /**
+     * 일괄 삭제 결과
+     * failedUrls : S3 호출 실패 (재시도 대상) / invalidUrls : 파일명 추출 불가 (재시도해도 실패)
+     */
+    public record DeleteResult(Set<String> failedUrls, Set<String> invalidUrls) {
+    }
+
     // 파일 삭제
     public void deleteFile(String fileName) {
         try {
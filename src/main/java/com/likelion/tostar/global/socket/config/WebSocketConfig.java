@@ -1,24 +1,114 @@
 package com.likelion.tostar.global.socket.config;
 
-import com.likelion.tostar.global.jwt.util.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.tostar.global.socket.converter.CompactJsonCodec;
+import com.likelion.tostar.global.socket.converter.CompactJsonMessageConverter;
+import com.likelion.tostar.global.socket.handler.SlowConsumerHandlerDecoratorFactory;
+import com.likelion.tostar.global.socket.interceptor.BrokerSubscriptionInterceptor;
+import com.likelion.tostar.global.socket.interceptor.ChannelMetricsInterceptor;
+import com.likelion.tostar.global.socket.interceptor.ChatRateLimitInterceptor;
+import com.likelion.tostar.global.socket.interceptor.CompactEncodingInterceptor;
 import com.likelion.tostar.global.socket.interceptor.JwtChannelInterceptor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompReactorNettyCodec;
+import org.springframework.messaging.tcp.reactor.ReactorNettyTcpClient;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.tcp.TcpClient;
 
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 @CrossOrigin
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    // 메트릭 태그 값 종류 상한 (destination, room)
+    private static final int MAX_TAG_VALUES = 100;
 
-    private final JwtUtil jwtUtil;
+    private final JwtChannelInterceptor jwtChannelInterceptor;
+    private final ChatRateLimitInterceptor chatRateLimitInterceptor;
+    private final CompactEncodingInterceptor compactEncodingInterceptor;
+    private final CompactJsonCodec compactJsonCodec;
+    private final SlowConsumerHandlerDecoratorFactory slowConsumerHandlerDecoratorFactory;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 브로커 모드 : simple(단일 서버, 인메모리) / relay(외부 STOMP 브로커, 다중 서버)
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${chat.broker.relay.client-login:guest}")
+    private String relayClientLogin;
+
+    @Value("${chat.broker.relay.client-passcode:guest}")
+    private String relayClientPasscode;
+
+    @Value("${chat.broker.relay.system-login:guest}")
+    private String relaySystemLogin;
+
+    @Value("${chat.broker.relay.system-passcode:guest}")
+    private String relaySystemPasscode;
+
+    // relay 연결 풀 (클라이언트 세션마다 relay 와 TCP 연결 1개를 사용)
+    @Value("${chat.broker.relay.pool.max-connections:1000}")
+    private int relayMaxConnections;
+
+    @Value("${chat.broker.relay.pool.pending-acquire-timeout-ms:5000}")
+    private long relayPendingAcquireTimeoutMs;
+
+    @Value("${chat.broker.relay.pool.max-idle-time-ms:60000}")
+    private long relayMaxIdleTimeMs;
+
+    private ConnectionProvider relayConnectionProvider;
+    private ThreadPoolTaskScheduler brokerTaskScheduler;
+
+    // 세션별 전송 제한 (느린 클라이언트가 outbound 스레드를 오래 점유하지 않도록)
+    @Value("${chat.transport.send-time-limit-ms:15000}")
+    private int sendTimeLimitMs;
+
+    @Value("${chat.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${chat.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    // 0 이면 heartbeat 미사용 (기존 동작)
+    @Value("${chat.broker.heartbeat-ms:0}")
+    private long heartbeatMs;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -29,12 +119,191 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            enableStompBrokerRelay(registry);
+        } else {
+            // /queue : 사용자별 알림 (/user/queue/letters)
+            var simpleBroker = registry.enableSimpleBroker("/topic", "/queue");
+            if (heartbeatMs > 0) {
+                simpleBroker.setTaskScheduler(chatBrokerTaskScheduler())
+                        .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs});
+            }
+        }
         registry.setApplicationDestinationPrefixes("/app");
+        // broker 채널은 기본적으로 호출 스레드에서 동기 처리 (같은 방 메시지 순서 보장)
+        // executor 를 사용하면 처리량은 늘지만 순서가 섞일 수 있음
+        if (environment.getProperty("chat.executor.broker.enabled", Boolean.class, false)) {
+            registry.configureBrokerChannel()
+                    .taskExecutor(channelExecutor("broker"));
+        }
+        // simple broker 는 구독자별로 메시지를 복사하기 전에 1번만 압축 (relay 는 outbound 에서 payload 별 캐시)
+        if (!"relay".equalsIgnoreCase(brokerMode)) {
+            registry.configureBrokerChannel()
+                    .interceptors(compactEncodingInterceptor.brokerEncoder());
+        }
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(new JwtChannelInterceptor(jwtUtil));
+        // 채팅 전송 경로가 JPA 에서 블로킹되므로 inbound 풀 크기를 설정값으로 조정
+        registration.taskExecutor(channelExecutor("inbound"));
+        // 인증 -> 전송률 제한 순서 (사용자별 제한에 세션 사용자 정보 필요)
+        registration.interceptors(jwtChannelInterceptor, chatRateLimitInterceptor,
+                compactEncodingInterceptor.subscriptionTracker(),
+                new ChannelMetricsInterceptor(meterRegistry, "inbound"),
+                // 브로커 구독 등록 후 누락 채팅 재전송 (CommunityChatReplayService)
+                new BrokerSubscriptionInterceptor(eventPublisher));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor("outbound"));
+        // 압축 구독이면 payload 교체 (구독 관리는 inbound 의 subscriptionTracker)
+        registration.interceptors(compactEncodingInterceptor, new ChannelMetricsInterceptor(meterRegistry, "outbound"));
+    }
+
+    /**
+     * content-type: application/vnd.tostar.compact+json 메시지 변환기 추가 (기본 JSON 변환기는 유지)
+     */
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        messageConverters.add(new CompactJsonMessageConverter(compactJsonCodec, objectMapper));
+        return true;
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                // 세션별 전송 큐 + 느린 구독자 정책 (chat.slow-consumer.*)
+                .addDecoratorFactory(slowConsumerHandlerDecoratorFactory);
+    }
+
+    /**
+     * simple broker heartbeat 용 스케줄러
+     * 빈으로 등록하면 @Scheduled 기본 스케줄러 선택에 영향을 주므로 직접 생성/종료
+     */
+    private ThreadPoolTaskScheduler chatBrokerTaskScheduler() {
+        brokerTaskScheduler = new ThreadPoolTaskScheduler();
+        brokerTaskScheduler.setPoolSize(environment.getProperty("chat.broker.scheduler-pool-size", Integer.class, 1));
+        brokerTaskScheduler.setThreadNamePrefix("chat-broker-heartbeat-");
+        brokerTaskScheduler.initialize();
+        return brokerTaskScheduler;
+    }
+
+    /**
+     * 채널 executor 생성 (chat.executor.{name}.*)
+     * 빈 초기화는 Spring 이 clientInboundChannelExecutor 등의 빈으로 등록하면서 수행
+     * inbound : 대기열이 차야 max-size 까지 스레드가 늘어나므로 기본 대기열은 core-size 의 8배로 제한
+     * (대기열과 스레드가 모두 차면 거절 -> 해당 프레임은 처리되지 않고 클라이언트에 ERROR 프레임)
+     * outbound, broker : Spring 기본값과 같이 무제한 대기열 (simple broker 는 구독자별 전송 실패를 로그만 남기고 버리므로)
+     * 설정으로 제한하더라도 가득 차면 호출 스레드에서 실행 (프레임을 버리지 않고 보내는 쪽을 늦춤)
+     */
+    private ThreadPoolTaskExecutor channelExecutor(String name) {
+        String prefix = "chat.executor." + name + ".";
+        int coreSize = environment.getProperty(prefix + "core-size", Integer.class,
+                Runtime.getRuntime().availableProcessors() * 2);
+        boolean inbound = "inbound".equals(name);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(environment.getProperty(prefix + "max-size", Integer.class,
+                inbound ? Math.max(coreSize, 1) * 2 : Integer.MAX_VALUE));
+        executor.setQueueCapacity(environment.getProperty(prefix + "queue-capacity", Integer.class,
+                inbound ? Math.max(coreSize, 1) * 8 : Integer.MAX_VALUE));
+        if (!inbound) {
+            executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+        executor.setKeepAliveSeconds(environment.getProperty(prefix + "keep-alive-seconds", Integer.class, 60));
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("chat-" + name + "-");
+
+        Gauge.builder("chat.stomp.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", name)
+                .register(meterRegistry);
+        Gauge.builder("chat.stomp.executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .tag("channel", name)
+                .register(meterRegistry);
+        Gauge.builder("chat.stomp.executor.queue.size", executor, this::queueSize)
+                .tag("channel", name)
+                .register(meterRegistry);
+        return executor;
+    }
+
+    // 초기화 전에는 getThreadPoolExecutor 가 예외를 던지므로 0 반환
+    private int queueSize(ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor().getQueue().size();
+        } catch (IllegalStateException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 클라이언트가 임의의 destination 을 보낼 수 있으므로 태그 종류 상한 설정
+     */
+    @Bean
+    public static MeterFilter chatDispatchDestinationLimit() {
+        return MeterFilter.maximumAllowableTags("chat.stomp.dispatch", "destination", MAX_TAG_VALUES, MeterFilter.deny());
+    }
+
+    /**
+     * 느린 구독자 버림 수의 채팅방 태그도 같은 상한 적용 (방마다 시계열이 끝없이 늘어나지 않도록)
+     */
+    @Bean
+    public static MeterFilter chatSlowConsumerRoomLimit() {
+        return MeterFilter.maximumAllowableTags("chat.slow-consumer.dropped", "room", MAX_TAG_VALUES, MeterFilter.deny());
+    }
+
+    /**
+     * 외부 STOMP 브로커(RabbitMQ, Artemis 등)로 중계
+     * 서버가 여러 대여도 /topic/chatroom/{id} 구독자 모두에게 전달됨
+     */
+    private void enableStompBrokerRelay(MessageBrokerRegistry registry) {
+        relayConnectionProvider = relayConnectionProvider(relayMaxConnections,
+                Duration.ofMillis(relayPendingAcquireTimeoutMs), Duration.ofMillis(relayMaxIdleTimeMs));
+
+        var relay = registry.enableStompBrokerRelay("/topic", "/queue")
+                .setTcpClient(relayTcpClient(relayConnectionProvider, relayHost, relayPort))
+                .setClientLogin(relayClientLogin)
+                .setClientPasscode(relayClientPasscode)
+                .setSystemLogin(relaySystemLogin)
+                .setSystemPasscode(relaySystemPasscode)
+                // 다른 서버에 접속한 사용자에게도 /user 메시지가 전달되도록 공유
+                .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                .setUserRegistryBroadcast("/topic/simp-user-registry");
+        if (!relayVirtualHost.isBlank()) {
+            relay.setVirtualHost(relayVirtualHost);
+        }
+        log.info("STOMP broker relay 사용 : {}:{}", relayHost, relayPort);
+    }
+
+    // relay 연결 풀
+    static ConnectionProvider relayConnectionProvider(int maxConnections, Duration pendingAcquireTimeout,
+                                                      Duration maxIdleTime) {
+        return ConnectionProvider.builder("chat-broker-relay")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .build();
+    }
+
+    // 연결 풀을 사용하는 relay TCP 클라이언트
+    static ReactorNettyTcpClient<byte[]> relayTcpClient(ConnectionProvider connectionProvider, String host, int port) {
+        TcpClient tcpClient = TcpClient.create(connectionProvider)
+                .host(host)
+                .port(port);
+        return new ReactorNettyTcpClient<>(tcpClient, new StompReactorNettyCodec());
+    }
+
+    @PreDestroy
+    public void disposeBrokerResources() {
+        if (relayConnectionProvider != null) {
+            relayConnectionProvider.dispose();
+        }
+        if (brokerTaskScheduler != null) {
+            brokerTaskScheduler.shutdown();
+        }
     }
 }
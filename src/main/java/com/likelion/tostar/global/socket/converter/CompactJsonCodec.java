@@ -0,0 +1,94 @@
+package com.likelion.tostar.global.socket.converter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+/**
+ * 채팅 프레임 압축 JSON 형식
+ * - 자주 쓰이는 필드명을 한 글자로 축약 (chatId -> i, content -> c ...)
+ * - null 필드 제거
+ * 사전에 없는 필드는 그대로 유지하므로 모든 채팅 payload(단건, 묶음 배열, 접속자 현황)에 적용 가능
+ *
+ * SockJS 는 텍스트 프레임만 지원해 CBOR/Smile 같은 바이너리 형식은 깨지므로 JSON 안에서 크기를 줄임
+ */
+@Component
+@RequiredArgsConstructor
+public class CompactJsonCodec {
+    public static final MimeType COMPACT_JSON = MimeType.valueOf("application/vnd.tostar.compact+json");
+
+    private static final Map<String, String> SHORT_NAMES = Map.ofEntries(
+            Map.entry("chatId", "i"),
+            Map.entry("chatRoomId", "r"),
+            Map.entry("communityId", "m"),
+            Map.entry("email", "e"),
+            Map.entry("petName", "n"),
+            Map.entry("messageType", "t"),
+            Map.entry("profileImage", "p"),
+            Map.entry("content", "c"),
+            Map.entry("userId", "u"),
+            Map.entry("onlineCount", "o"),
+            Map.entry("users", "s"));
+    private static final Map<String, String> LONG_NAMES = invert(SHORT_NAMES);
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 일반 JSON -> 압축 JSON
+     */
+    public byte[] compact(byte[] json) throws IOException {
+        return compact(objectMapper.readTree(json));
+    }
+
+    /**
+     * JSON 트리 -> 압축 JSON (객체에서 바로 변환할 때 직렬화/파싱을 한 번 줄임)
+     */
+    public byte[] compact(JsonNode json) throws IOException {
+        return objectMapper.writeValueAsBytes(rename(json, SHORT_NAMES, true));
+    }
+
+    /**
+     * 압축 JSON -> 일반 JSON 트리 (클라이언트 전송 payload 역직렬화용)
+     */
+    public JsonNode expand(byte[] compactJson) throws IOException {
+        return rename(objectMapper.readTree(compactJson), LONG_NAMES, false);
+    }
+
+    private JsonNode rename(JsonNode node, Map<String, String> names, boolean dropNulls) {
+        if (node.isArray()) {
+            ArrayNode array = objectMapper.createArrayNode();
+            for (JsonNode element : node) {
+                array.add(rename(element, names, dropNulls));
+            }
+            return array;
+        }
+        if (node.isObject()) {
+            ObjectNode object = objectMapper.createObjectNode();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (dropNulls && field.getValue().isNull()) {
+                    continue;
+                }
+                object.set(names.getOrDefault(field.getKey(), field.getKey()),
+                        rename(field.getValue(), names, dropNulls));
+            }
+            return object;
+        }
+        return node;
+    }
+
+    private static Map<String, String> invert(Map<String, String> map) {
+        Map<String, String> inverted = new HashMap<>();
+        map.forEach((key, value) -> inverted.put(value, key));
+        return Map.copyOf(inverted);
+    }
+}
@@ -0,0 +1,53 @@
+package com.likelion.tostar.global.socket.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+import org.springframework.messaging.converter.MessageConversionException;
+
+/**
+ * content-type: application/vnd.tostar.compact+json 메시지 변환
+ * content-type 헤더가 정확히 일치할 때만 동작하고, 헤더가 없으면 기본 JSON 변환기가 처리
+ */
+public class CompactJsonMessageConverter extends AbstractMessageConverter {
+    private final CompactJsonCodec compactJsonCodec;
+    private final ObjectMapper objectMapper;
+
+    public CompactJsonMessageConverter(CompactJsonCodec compactJsonCodec, ObjectMapper objectMapper) {
+        super(CompactJsonCodec.COMPACT_JSON);
+        this.compactJsonCodec = compactJsonCodec;
+        this.objectMapper = objectMapper;
+        setStrictContentTypeMatch(true);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    protected Object convertFromInternal(Message<?> message, Class<?> targetClass, Object conversionHint) {
+        try {
+            return objectMapper.treeToValue(compactJsonCodec.expand(toBytes(message.getPayload())), targetClass);
+        } catch (IOException e) {
+            throw new MessageConversionException(message, "압축 JSON 변환 실패 : " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+        try {
+            return compactJsonCodec.compact(objectMapper.valueToTree(payload));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new MessageConversionException("압축 JSON 변환 실패 : " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] toBytes(Object payload) {
+        return (payload instanceof String text) ? text.getBytes(StandardCharsets.UTF_8)
+                : (byte[]) payload;
+    }
+}
@@ -0,0 +1,61 @@
+package com.likelion.tostar.global.socket.dto;
+
+import com.likelion.tostar.domain.user.entity.User;
+import com.likelion.tostar.global.enums.statuscode.ErrorStatus;
+import com.likelion.tostar.global.exception.GeneralException;
+import java.security.Principal;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+/**
+ * STOMP 세션 인증 정보
+ * CONNECT 시 한 번만 JWT 검증 + 사용자 조회 후 세션 속성에 보관
+ * -> 메시지마다 토큰 파싱, 사용자 조회를 하지 않음
+ */
+@Getter
+@Builder
+public class ChatSessionUser implements Principal {
+    public static final String SESSION_ATTRIBUTE = "chatSessionUser";
+
+    private final Long userId;
+    private final String email;
+    private final String petName;
+    private final String profileImage;
+    private final long expiresAt; // 토큰 만료 시각 (epoch ms)
+
+    public static ChatSessionUser of(User user, long expiresAt) {
+        return ChatSessionUser.builder()
+                .userId(user.getId())
+                .email(user.getEmail())
+                .petName(user.getPetName())
+                .profileImage(user.getProfileImage())
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    /**
+     * 메시지 헤더에서 세션 인증 정보 조회
+     */
+    public static ChatSessionUser from(SimpMessageHeaderAccessor accessor) {
+        if (accessor.getUser() instanceof ChatSessionUser sessionUser) {
+            return sessionUser;
+        }
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes != null && attributes.get(SESSION_ATTRIBUTE) instanceof ChatSessionUser sessionUser) {
+            return sessionUser;
+        }
+        throw new GeneralException(ErrorStatus._UNAUTHORIZED);
+    }
+
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= expiresAt;
+    }
+
+    // convertAndSendToUser 의 user 이름으로 email 사용
+    @Override
+    public String getName() {
+        return email;
+    }
+}
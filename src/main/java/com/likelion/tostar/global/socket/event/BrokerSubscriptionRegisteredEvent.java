@@ -0,0 +1,10 @@
+package com.likelion.tostar.global.socket.event;
+
+import org.springframework.messaging.Message;
+
+/**
+ * 브로커가 SUBSCRIBE 처리를 마친 뒤 발행 (이후 브로커로 들어오는 메시지는 이 구독에 전달됨)
+ * SessionSubscribeEvent 는 브로커 등록 전에 발행되므로, 구독 직후 재전송은 이 이벤트 기준으로 처리
+ */
+public record BrokerSubscriptionRegisteredEvent(Message<?> message) {
+}
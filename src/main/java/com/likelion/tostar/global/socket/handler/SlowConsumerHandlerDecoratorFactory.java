@@ -0,0 +1,130 @@
+package com.likelion.tostar.global.socket.handler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+/**
+ * /ws/chat 세션마다 전송 큐(SlowConsumerSession)를 붙여 느린 구독자 감지
+ * 세션 전송은 이 큐를 비우는 스레드에서 수행되므로 브로커/outbound 스레드가 느린 클라이언트에 묶이지 않음
+ * 전송 스레드 풀은 대기열 없이 max-size 까지 늘어나고, 풀이 가득 차 전송을 시작하지 못한 세션은 프레임을 큐에 두고 재시도
+ * 멈춘 세션 점검은 전용 스케줄러에서 실행 (블로킹 close 가 다른 @Scheduled 작업을 지연시키지 않도록)
+ */
+@Slf4j
+@Component
+public class SlowConsumerHandlerDecoratorFactory implements WebSocketHandlerDecoratorFactory {
+    private final boolean enabled;
+    private final SlowConsumerPolicy policy;
+    private final int queueLimit;
+    private final long bufferSizeLimit;
+    private final long sendTimeLimitMs;
+    private final SlowConsumerMetrics metrics;
+    private final ThreadPoolTaskExecutor sendExecutor;
+    private final ScheduledExecutorService checkScheduler;
+    private final Map<String, SlowConsumerSession> sessions = new ConcurrentHashMap<>();
+
+    public SlowConsumerHandlerDecoratorFactory(
+            MeterRegistry meterRegistry,
+            @Value("${chat.slow-consumer.enabled:true}") boolean enabled,
+            @Value("${chat.slow-consumer.policy:drop-oldest-talk}") String policy,
+            @Value("${chat.slow-consumer.queue-limit:100}") int queueLimit,
+            @Value("${chat.slow-consumer.buffer-size-limit:262144}") long bufferSizeLimit,
+            @Value("${chat.transport.send-time-limit-ms:15000}") long sendTimeLimitMs,
+            @Value("${chat.slow-consumer.send-pool.core-size:8}") int sendPoolCoreSize,
+            @Value("${chat.slow-consumer.send-pool.max-size:64}") int sendPoolMaxSize,
+            @Value("${chat.slow-consumer.check-interval-ms:1000}") long checkIntervalMs) {
+        this.enabled = enabled;
+        this.policy = SlowConsumerPolicy.from(policy);
+        this.queueLimit = queueLimit;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.metrics = new SlowConsumerMetrics(meterRegistry);
+        this.sendExecutor = sendExecutor(sendPoolCoreSize, sendPoolMaxSize);
+        metrics.registerSendPool(sendExecutor);
+
+        this.checkScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-slow-consumer-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checkScheduler.scheduleWithFixedDelay(this::checkSessions, checkIntervalMs, checkIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 세션 전송 스레드 풀
+     * 대기열이 있으면 core-size 를 넘는 스레드가 생기지 않아, 전송이 멈춘 세션 몇 개가
+     * 뒤에 쌓인 다른 세션들의 전송까지 막음 -> 대기열 없이 max-size 까지 늘리고, 그래도 차면 거절
+     * (거절된 세션은 프레임을 큐에 둔 채 다음 프레임 또는 주기 점검 때 재시도)
+     */
+    static ThreadPoolTaskExecutor sendExecutor(int coreSize, int maxSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(Math.max(maxSize, coreSize));
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("chat-session-send-");
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        if (!enabled) {
+            return handler;
+        }
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                SlowConsumerSession slowConsumerSession = new SlowConsumerSession(session, policy, sendExecutor,
+                        metrics, queueLimit, bufferSizeLimit, sendTimeLimitMs);
+                sessions.put(session.getId(), slowConsumerSession);
+                super.afterConnectionEstablished(slowConsumerSession);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                SlowConsumerSession slowConsumerSession = sessions.remove(session.getId());
+                if (slowConsumerSession != null) {
+                    slowConsumerSession.release();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * 전송이 멈춘 세션 점검
+     * - 한 번의 전송이 send-time-limit 을 넘긴 세션 종료 (새 프레임이 오지 않는 세션도 감지)
+     * - 풀이 가득 차 전송을 시작하지 못한 채 프레임이 남아 있는 세션 재시도
+     */
+    void checkSessions() {
+        for (SlowConsumerSession session : sessions.values()) {
+            try {
+                session.check();
+            } catch (RuntimeException e) {
+                // 예외로 주기 실행이 멈추지 않도록
+                log.warn("느린 구독자 점검 실패 : session={}", session.getId(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        checkScheduler.shutdownNow();
+        sendExecutor.shutdown();
+    }
+}
@@ -0,0 +1,70 @@
+package com.likelion.tostar.global.socket.handler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 느린 구독자 메트릭
+ */
+class SlowConsumerMetrics {
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger slowSessions = new AtomicInteger();
+    private final Counter disconnected;
+    private final Counter framesBatched;
+    private final Counter sendRejected;
+
+    SlowConsumerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("chat.slow-consumer.sessions", slowSessions, AtomicInteger::get)
+                .description("전송 큐가 임계치를 넘은 세션 수")
+                .register(meterRegistry);
+        this.disconnected = Counter.builder("chat.slow-consumer.disconnected")
+                .description("느린 구독자로 종료된 세션 수")
+                .register(meterRegistry);
+        this.framesBatched = Counter.builder("chat.slow-consumer.frames.batched")
+                .description("느린 구독자에게 묶어서 보낸 프레임 수")
+                .register(meterRegistry);
+        this.sendRejected = Counter.builder("chat.slow-consumer.send.rejected")
+                .description("전송 스레드 풀이 가득 차 전송을 시작하지 못한 횟수")
+                .register(meterRegistry);
+    }
+
+    void registerSendPool(ThreadPoolTaskExecutor executor) {
+        Gauge.builder("chat.slow-consumer.send.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
+        Gauge.builder("chat.slow-consumer.send.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .register(meterRegistry);
+    }
+
+    void sendRejected() {
+        sendRejected.increment();
+    }
+
+    void slowSessionDetected() {
+        slowSessions.incrementAndGet();
+    }
+
+    void slowSessionRecovered() {
+        slowSessions.decrementAndGet();
+    }
+
+    void sessionDisconnected() {
+        disconnected.increment();
+    }
+
+    void framesBatched(int count) {
+        framesBatched.increment(count);
+    }
+
+    // room 태그 종류는 WebSocketConfig.chatSlowConsumerRoomLimit 로 제한
+    void messageDropped(String room) {
+        Counter.builder("chat.slow-consumer.dropped")
+                .description("느린 구독자에게 보내지 않고 버린 채팅 수")
+                .tag("room", room)
+                .register(meterRegistry)
+                .increment();
+    }
+}
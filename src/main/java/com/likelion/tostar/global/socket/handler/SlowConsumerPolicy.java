@@ -0,0 +1,14 @@
+package com.likelion.tostar.global.socket.handler;
+
+/**
+ * 느린 구독자 처리 정책 (chat.slow-consumer.policy)
+ */
+public enum SlowConsumerPolicy {
+    DROP_OLDEST_TALK, // 오래된 일반 채팅부터 버림
+    DISCONNECT, // 연결 종료
+    BATCH; // 쌓인 프레임을 묶어서 전송
+
+    public static SlowConsumerPolicy from(String value) {
+        return valueOf(value.trim().replace('-', '_').toUpperCase());
+    }
+}
@@ -0,0 +1,264 @@
+package com.likelion.tostar.global.socket.handler;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * 세션별 전송 큐
+ * 전송은 별도 스레드가 큐를 비우면서 수행하고, 큐가 임계치를 넘으면 느린 구독자로 보고 정책 적용
+ * - drop-oldest-talk : 가장 오래된 일반 채팅(TALK) 프레임부터 버림 (ANNOUNCE 등은 유지)
+ * - disconnect : 연결 종료
+ * - batch : 쌓인 STOMP 프레임을 WebSocket 메시지 하나로 이어붙여 전송 (STOMP 는 한 메시지에 여러 프레임 허용)
+ * 전송 스레드 풀이 가득 차 전송을 시작하지 못하면 (서버 용량 문제, 세션 탓이 아님) 프레임을 큐에 두고
+ * 다음 프레임 또는 주기 점검 때 재시도 ; 정책은 세션 자신의 큐 크기와 전송 시간으로만 적용
+ */
+@Slf4j
+class SlowConsumerSession extends WebSocketSessionDecorator {
+    private static final String CHATROOM_DESTINATION_HEADER = "\ndestination:/topic/chatroom/";
+
+    private final SlowConsumerPolicy policy;
+    private final Executor sendExecutor;
+    private final SlowConsumerMetrics metrics;
+    private final int queueLimit;
+    private final long bufferSizeLimit;
+    private final long sendTimeLimitMs;
+
+    private final ConcurrentLinkedDeque<WebSocketMessage<?>> queue = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean slow = new AtomicBoolean();
+    private volatile long sendStartedAt;
+    private volatile boolean closed;
+
+    SlowConsumerSession(WebSocketSession delegate, SlowConsumerPolicy policy, Executor sendExecutor,
+                        SlowConsumerMetrics metrics, int queueLimit, long bufferSizeLimit, long sendTimeLimitMs) {
+        super(delegate);
+        this.policy = policy;
+        this.sendExecutor = sendExecutor;
+        this.metrics = metrics;
+        this.queueLimit = queueLimit;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (closed) {
+            return;
+        }
+        // 이전 전송이 오래 걸리고 있으면 더 이상 기다리지 않고 종료
+        if (sendTimeLimitExceeded()) {
+            closeAsSlow("send time limit exceeded");
+            return;
+        }
+
+        queue.addLast(message);
+        queuedCount.incrementAndGet();
+        queuedBytes.addAndGet(message.getPayloadLength());
+        if (queuedCount.get() > queueLimit || queuedBytes.get() > bufferSizeLimit) {
+            onOverflow();
+        } else if (queuedCount.get() <= 1 && slow.compareAndSet(true, false)) {
+            metrics.slowSessionRecovered();
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * 연결 종료 시 대기 중인 프레임 정리
+     */
+    void release() {
+        closed = true;
+        queue.clear();
+        queuedCount.set(0);
+        queuedBytes.set(0);
+        if (slow.compareAndSet(true, false)) {
+            metrics.slowSessionRecovered();
+        }
+    }
+
+    /**
+     * 주기 점검 : 전송이 멈춘 세션 종료 / 전송을 시작하지 못한 프레임 재시도
+     */
+    void check() {
+        if (closed) {
+            return;
+        }
+        if (sendTimeLimitExceeded()) {
+            // 전송 중인 스레드는 연결 종료로 블로킹 전송이 실패하면서 풀려남
+            closeAsSlow("send time limit exceeded");
+        } else if (!queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private boolean sendTimeLimitExceeded() {
+        long startedAt = sendStartedAt;
+        return startedAt > 0 && System.currentTimeMillis() - startedAt > sendTimeLimitMs;
+    }
+
+    private void markSlow() {
+        if (slow.compareAndSet(false, true)) {
+            metrics.slowSessionDetected();
+        }
+    }
+
+    private void onOverflow() {
+        markSlow();
+        switch (policy) {
+            case DROP_OLDEST_TALK -> {
+                // TALK 만 버리고도 한도를 넘으면 (공지만 쌓인 경우) 한도의 2배에서 종료
+                while (queuedCount.get() > queueLimit || queuedBytes.get() > bufferSizeLimit) {
+                    if (!dropOldestTalk()) {
+                        if (queuedCount.get() > queueLimit * 2 || queuedBytes.get() > bufferSizeLimit * 2) {
+                            closeAsSlow("buffer limit exceeded");
+                        }
+                        return;
+                    }
+                }
+            }
+            case DISCONNECT -> closeAsSlow("buffer limit exceeded");
+            case BATCH -> {
+                // 묶음 전송으로도 따라잡지 못해 한도의 2배를 넘으면 종료
+                if (queuedCount.get() > queueLimit * 2 || queuedBytes.get() > bufferSizeLimit * 2) {
+                    closeAsSlow("buffer limit exceeded");
+                }
+            }
+        }
+    }
+
+    private boolean dropOldestTalk() {
+        Iterator<WebSocketMessage<?>> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            WebSocketMessage<?> message = iterator.next();
+            if (message instanceof TextMessage text && isTalkFrame(text.getPayload())
+                    && queue.removeFirstOccurrence(message)) {
+                queuedCount.decrementAndGet();
+                queuedBytes.addAndGet(-message.getPayloadLength());
+                String room = roomOf(text.getPayload());
+                metrics.messageDropped(room);
+                log.debug("느린 구독자 채팅 버림 : session={}, room={}", getId(), room);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sendExecutor.execute(this::drain);
+        } catch (TaskRejectedException e) {
+            // 전송 스레드 풀 포화 : 프레임은 큐에 그대로 두고 재시도 (큐 한도를 넘으면 sendMessage 에서 정책 적용)
+            draining.set(false);
+            metrics.sendRejected();
+        }
+    }
+
+    private void drain() {
+        try {
+            while (!closed) {
+                WebSocketMessage<?> message = (policy == SlowConsumerPolicy.BATCH && slow.get())
+                        ? pollBatch() : poll();
+                if (message == null) {
+                    break;
+                }
+                long startedAt = System.currentTimeMillis();
+                sendStartedAt = startedAt;
+                try {
+                    getDelegate().sendMessage(message);
+                } finally {
+                    sendStartedAt = 0;
+                }
+                // 전송은 끝났지만 한도를 넘겼으면 남은 프레임을 보내지 않고 종료
+                if (System.currentTimeMillis() - startedAt > sendTimeLimitMs) {
+                    closeAsSlow("send time limit exceeded");
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.debug("WebSocket 전송 실패 : session={}, {}", getId(), e.getMessage());
+            closeAsSlow("send failed");
+        } finally {
+            draining.set(false);
+        }
+        // 종료 직전에 추가된 프레임 처리
+        if (!closed && !queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private WebSocketMessage<?> poll() {
+        WebSocketMessage<?> message = queue.pollFirst();
+        if (message != null) {
+            queuedCount.decrementAndGet();
+            queuedBytes.addAndGet(-message.getPayloadLength());
+        }
+        return message;
+    }
+
+    // 연속된 텍스트 프레임을 하나의 메시지로 이어붙임
+    private WebSocketMessage<?> pollBatch() {
+        WebSocketMessage<?> first = poll();
+        if (!(first instanceof TextMessage firstText)) {
+            return first;
+        }
+        StringBuilder frames = new StringBuilder(firstText.getPayload());
+        int batched = 1;
+        while (queue.peekFirst() instanceof TextMessage) {
+            WebSocketMessage<?> next = poll();
+            if (next == null) {
+                break;
+            }
+            frames.append(((TextMessage) next).getPayload());
+            batched++;
+        }
+        if (batched > 1) {
+            metrics.framesBatched(batched - 1);
+        }
+        return new TextMessage(frames.toString());
+    }
+
+    private void closeAsSlow(String reason) {
+        if (closed) {
+            return;
+        }
+        log.info("느린 구독자 연결 종료 : session={}, reason={}", getId(), reason);
+        metrics.sessionDisconnected();
+        release();
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("WebSocket 종료 실패 : session={}", getId(), e);
+        }
+    }
+
+    // 채팅방으로 전송되는 일반 채팅 프레임 (공지가 섞인 묶음은 제외)
+    private static boolean isTalkFrame(String frame) {
+        return frame.startsWith("MESSAGE") && frame.contains(CHATROOM_DESTINATION_HEADER)
+                && frame.contains("\"TALK\"") && !frame.contains("\"ANNOUNCE\"");
+    }
+
+    private static String roomOf(String frame) {
+        int start = frame.indexOf(CHATROOM_DESTINATION_HEADER) + CHATROOM_DESTINATION_HEADER.length();
+        int end = start;
+        while (end < frame.length() && Character.isDigit(frame.charAt(end))) {
+            end++;
+        }
+        return end > start ? frame.substring(start, end) : "unknown";
+    }
+}
@@ -1,20 +1,32 @@
 package com.likelion.tostar.global.socket.handler;
 
-import java.util.HashSet;
-import java.util.Set;
+import com.likelion.tostar.domain.chat.service.ChatPresenceRegistry;
+import com.likelion.tostar.domain.chat.service.CommunityChatPublisher;
+import com.likelion.tostar.global.socket.dto.ChatSessionUser;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
-import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
 /**
- * 웹 소켓 연결, 종료 시 Event Listener
+ * 웹 소켓 연결, 구독, 종료 시 Event Listener
+ * 채팅방 접속자 현황(ChatPresenceRegistry) 갱신
  */
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class WebSocketHandler {
-	private final Set<WebSocketSession> sessions = new HashSet<>();
+	private static final Pattern CHATROOM_DESTINATION =
+			Pattern.compile("^" + Pattern.quote(CommunityChatPublisher.CHATROOM_TOPIC_PREFIX) + "(\\d+)$");
+
+	private final ChatPresenceRegistry chatPresenceRegistry;
 
 	/**
 	 * 웹 소켓 연결 시
@@ -23,8 +35,37 @@ public class WebSocketHandler {
 	public void handleWebSocketConnectListener(SessionConnectedEvent event) {
 		StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
 		String sessionId = headerAccessor.getSessionId();
-		System.out.println("WebSocket connected: " + sessionId);
-		// 연결 시 필요한 작업 수행
+		if (event.getUser() instanceof ChatSessionUser sessionUser) {
+			chatPresenceRegistry.connect(sessionId, sessionUser);
+		}
+		log.debug("WebSocket connected: {}", sessionId);
+	}
+
+	/**
+	 * 채팅방 구독 시
+	 */
+	@EventListener
+	public void handleWebSocketSubscribeListener(SessionSubscribeEvent event) {
+		StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+		String destination = headerAccessor.getDestination();
+		if (destination == null) {
+			return;
+		}
+		// /topic/chatroom/{id} 만 접속으로 집계 (/presence 등 하위 토픽 제외)
+		Matcher matcher = CHATROOM_DESTINATION.matcher(destination);
+		if (matcher.matches()) {
+			chatPresenceRegistry.subscribe(headerAccessor.getSessionId(), headerAccessor.getSubscriptionId(),
+					Long.valueOf(matcher.group(1)));
+		}
+	}
+
+	/**
+	 * 구독 해제 시
+	 */
+	@EventListener
+	public void handleWebSocketUnsubscribeListener(SessionUnsubscribeEvent event) {
+		StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+		chatPresenceRegistry.unsubscribe(headerAccessor.getSessionId(), headerAccessor.getSubscriptionId());
 	}
 
 	/**
@@ -32,9 +73,8 @@ public class WebSocketHandler {
 	 */
 	@EventListener
 	public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
-		StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
-		String sessionId = headerAccessor.getSessionId();
-		System.out.println("WebSocket disconnected: " + sessionId);
-		// 연결 종료 시 필요한 작업 수행
+		String sessionId = event.getSessionId();
+		chatPresenceRegistry.disconnect(sessionId);
+		log.debug("WebSocket disconnected: {}", sessionId);
 	}
 }
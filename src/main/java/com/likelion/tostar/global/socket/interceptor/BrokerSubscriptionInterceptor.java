@@ -0,0 +1,32 @@
+package com.likelion.tostar.global.socket.interceptor;
+
+import com.likelion.tostar.global.socket.event.BrokerSubscriptionRegisteredEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+/**
+ * inbound 채널에서 브로커가 SUBSCRIBE 를 처리한 직후 BrokerSubscriptionRegisteredEvent 발행
+ * simple broker 는 이 시점에 구독 등록이 끝나 있음 (relay 는 외부 브로커로 전달만 된 시점)
+ */
+public class BrokerSubscriptionInterceptor implements ExecutorChannelInterceptor {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BrokerSubscriptionInterceptor(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+                                    Exception ex) {
+        if (ex == null && handler instanceof AbstractBrokerMessageHandler
+                && SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.SUBSCRIBE) {
+            eventPublisher.publishEvent(new BrokerSubscriptionRegisteredEvent(message));
+        }
+    }
+}
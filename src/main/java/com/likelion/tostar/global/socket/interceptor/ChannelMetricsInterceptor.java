@@ -0,0 +1,57 @@
+package com.likelion.tostar.global.socket.interceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.regex.Pattern;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+/**
+ * STOMP 채널 메시지 처리 시간 측정 (destination 별)
+ * /topic/chatroom/12 -> /topic/chatroom/{id} 로 묶어서 태그 개수 제한
+ */
+public class ChannelMetricsInterceptor implements ExecutorChannelInterceptor {
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final MeterRegistry meterRegistry;
+    private final String channelName;
+    // beforeHandle, afterMessageHandled 는 같은 executor 스레드에서 호출됨
+    private final ThreadLocal<Timer.Sample> sample = new ThreadLocal<>();
+
+    public ChannelMetricsInterceptor(MeterRegistry meterRegistry, String channelName) {
+        this.meterRegistry = meterRegistry;
+        this.channelName = channelName;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        sample.set(Timer.start(meterRegistry));
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+                                    Exception ex) {
+        Timer.Sample started = sample.get();
+        if (started == null) {
+            return;
+        }
+        sample.remove();
+        started.stop(Timer.builder("chat.stomp.dispatch")
+                .description("STOMP 채널 메시지 처리 시간")
+                .tag("channel", channelName)
+                .tag("destination", normalize(SimpMessageHeaderAccessor.getDestination(message.getHeaders())))
+                .tag("outcome", ex == null ? "success" : "error")
+                .register(meterRegistry));
+    }
+
+    static String normalize(String destination) {
+        if (destination == null) {
+            return "none";
+        }
+        return NUMERIC_SEGMENT.matcher(destination).replaceAll("/{id}");
+    }
+}
@@ -0,0 +1,162 @@
+package com.likelion.tostar.global.socket.interceptor;
+
+import com.likelion.tostar.global.socket.dto.ChatSessionUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션별, 사용자별 SEND 프레임 전송률 제한 (token bucket)
+ * 버킷 상태는 GCRA 방식으로 long 하나(다음 토큰이 채워지는 이론적 시각)만 CAS 로 갱신 -> 락 없음
+ * 초과 시 정책
+ * - error : ERROR 프레임 전송 (StompSubProtocolHandler 가 예외를 ERROR 프레임으로 변환)
+ * - drop : 메시지를 조용히 버리고 메트릭만 기록
+ */
+@Slf4j
+@Component
+public class ChatRateLimitInterceptor implements ChannelInterceptor {
+    private final boolean enabled;
+    private final boolean dropPolicy;
+    private final Bucket sessionBucket;
+    private final Bucket userBucket;
+
+    private final Map<String, AtomicLong> sessionStates = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> userStates = new ConcurrentHashMap<>();
+
+    private final Counter sessionRejected;
+    private final Counter userRejected;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public ChatRateLimitInterceptor(
+            MeterRegistry meterRegistry,
+            @Value("${chat.rate-limit.enabled:true}") boolean enabled,
+            @Value("${chat.rate-limit.policy:error}") String policy,
+            @Value("${chat.rate-limit.session.burst:10}") int sessionBurst,
+            @Value("${chat.rate-limit.session.refill-per-second:5}") double sessionRefillPerSecond,
+            @Value("${chat.rate-limit.user.burst:20}") int userBurst,
+            @Value("${chat.rate-limit.user.refill-per-second:10}") double userRefillPerSecond) {
+        this(meterRegistry, enabled, policy, sessionBurst, sessionRefillPerSecond, userBurst, userRefillPerSecond,
+                System::nanoTime);
+    }
+
+    // 테스트에서 시계 주입
+    ChatRateLimitInterceptor(MeterRegistry meterRegistry, boolean enabled, String policy,
+                             int sessionBurst, double sessionRefillPerSecond,
+                             int userBurst, double userRefillPerSecond, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.enabled = enabled;
+        this.dropPolicy = "drop".equalsIgnoreCase(policy);
+        this.sessionBucket = new Bucket("chat.rate-limit.session", sessionBurst, sessionRefillPerSecond);
+        this.userBucket = new Bucket("chat.rate-limit.user", userBurst, userRefillPerSecond);
+
+        String policyTag = dropPolicy ? "drop" : "error";
+        this.sessionRejected = Counter.builder("chat.rate-limit.rejected")
+                .tag("scope", "session").tag("policy", policyTag)
+                .description("전송률 제한으로 거부된 SEND 프레임 수")
+                .register(meterRegistry);
+        this.userRejected = Counter.builder("chat.rate-limit.rejected")
+                .tag("scope", "user").tag("policy", policyTag)
+                .description("전송률 제한으로 거부된 SEND 프레임 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null) {
+            return message;
+        }
+        if (messageType == SimpMessageType.DISCONNECT) {
+            sessionStates.remove(sessionId);
+            return message;
+        }
+        if (!enabled || messageType != SimpMessageType.MESSAGE) {
+            return message;
+        }
+
+        long now = nanoClock.getAsLong();
+        if (!sessionBucket.tryAcquire(sessionStates.computeIfAbsent(sessionId, id -> new AtomicLong(now)), now)) {
+            return reject(message, sessionRejected, "session", sessionId);
+        }
+        if (SimpMessageHeaderAccessor.getUser(message.getHeaders()) instanceof ChatSessionUser sessionUser
+                && !userBucket.tryAcquire(
+                        userStates.computeIfAbsent(sessionUser.getUserId(), id -> new AtomicLong(now)), now)) {
+            return reject(message, userRejected, "user", sessionId);
+        }
+        return message;
+    }
+
+    /**
+     * 토큰이 모두 채워진 사용자 상태 제거 (제거해도 다음 요청 시 가득 찬 버킷으로 다시 시작하므로 동일)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleUsers() {
+        long now = nanoClock.getAsLong();
+        userStates.values().removeIf(state -> state.get() <= now);
+    }
+
+    private Message<?> reject(Message<?> message, Counter counter, String scope, String sessionId) {
+        counter.increment();
+        if (dropPolicy) {
+            log.debug("전송률 제한으로 메시지 버림 : scope={}, session={}", scope, sessionId);
+            return null;
+        }
+        throw new MessageDeliveryException(message, "메시지 전송 속도가 너무 빠릅니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    /**
+     * GCRA (Generic Cell Rate Algorithm) 버킷 설정
+     * state = TAT (theoretical arrival time, nanoTime 기준)
+     * now >= TAT - 허용 버스트 구간 이면 통과, TAT 를 토큰 1개 간격만큼 뒤로 이동
+     */
+    private static final class Bucket {
+        private final long emissionIntervalNanos;
+        private final long burstToleranceNanos;
+
+        // burst >= 1, refill-per-second > 0 이 아니면 간격 계산이 넘쳐 전부 거부 / 전부 허용이 되므로 기동 실패
+        Bucket(String prefix, int burst, double refillPerSecond) {
+            if (burst < 1) {
+                throw new IllegalArgumentException(prefix + ".burst 는 1 이상이어야 합니다.");
+            }
+            if (!(refillPerSecond > 0)) {
+                throw new IllegalArgumentException(prefix + ".refill-per-second 는 0보다 커야 합니다.");
+            }
+            this.emissionIntervalNanos = Math.max((long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond), 1);
+            try {
+                this.burstToleranceNanos = Math.multiplyExact(emissionIntervalNanos, (long) (burst - 1));
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException(prefix + " 설정이 너무 커서 허용 구간을 계산할 수 없습니다.");
+            }
+        }
+
+        boolean tryAcquire(AtomicLong state, long now) {
+            while (true) {
+                long tat = state.get();
+                long base = Math.max(tat, now);
+                if (base - now > burstToleranceNanos) {
+                    return false;
+                }
+                if (state.compareAndSet(tat, base + emissionIntervalNanos)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
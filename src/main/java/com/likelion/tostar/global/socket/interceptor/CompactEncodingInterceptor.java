@@ -0,0 +1,219 @@
+package com.likelion.tostar.global.socket.interceptor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.likelion.tostar.global.socket.converter.CompactJsonCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 구독 단위 압축 JSON 협상
+ * SUBSCRIBE 시 content-type: application/vnd.tostar.compact+json 헤더를 보낸 구독에만
+ * 브로커가 보내는 JSON 메시지를 압축 JSON 으로 바꿔 전송
+ *
+ * 채널별로 나눠서 등록
+ * - inbound (subscriptionTracker) : SUBSCRIBE / UNSUBSCRIBE / DISCONNECT 로 압축 구독 관리
+ * - broker (brokerEncoder, simple 브로커) : 압축 구독자가 있는 destination 이면 구독자에게 나눠 보내기 전에
+ *   메시지당 1번만 압축해 헤더로 첨부 -> 브로커가 구독자별 메시지에 헤더를 그대로 복사
+ * - outbound (이 인터셉터) : 압축 구독이면 첨부된 압축 payload 로 교체 (변환 없음)
+ *   첨부가 없는 경우(relay 브로커, 사용자 destination, 재전송)만 직접 변환하고, 같은 payload 는 캐시로 공유
+ */
+@Slf4j
+@Component
+public class CompactEncodingInterceptor implements ChannelInterceptor {
+    // 브로커 채널에서 미리 압축한 payload (native 헤더가 아니므로 STOMP 프레임에는 포함되지 않음)
+    public static final String COMPACT_PAYLOAD_HEADER = "compactPayload";
+    private static final int CACHE_SIZE = 256;
+
+    private final CompactJsonCodec compactJsonCodec;
+    // sessionId -> (압축 JSON 을 요청한 subscriptionId -> destination)
+    private final Map<String, Map<String, String>> compactSubscriptions = new ConcurrentHashMap<>();
+    // destination -> 압축 구독 수 (브로커 채널에서 미리 압축할지 판단)
+    private final Map<String, Integer> compactDestinations = new ConcurrentHashMap<>();
+    // 첨부가 없는 메시지용 : payload 내용 -> 압축 결과 (relay 모드에서는 구독자마다 payload 배열이 따로 옴)
+    private final Cache<ByteBuffer, byte[]> compactCache = Caffeine.newBuilder()
+            .maximumSize(CACHE_SIZE)
+            .build();
+
+    private final ChannelInterceptor subscriptionTracker = new SubscriptionTracker();
+    private final ChannelInterceptor brokerEncoder = new BrokerEncoder();
+
+    private final Counter originalBytes;
+    private final Counter compactBytes;
+
+    public CompactEncodingInterceptor(CompactJsonCodec compactJsonCodec, MeterRegistry meterRegistry) {
+        this.compactJsonCodec = compactJsonCodec;
+        this.originalBytes = Counter.builder("chat.encoding.compact.bytes")
+                .tag("stage", "original")
+                .description("압축 JSON 변환 대상 메시지 크기")
+                .register(meterRegistry);
+        this.compactBytes = Counter.builder("chat.encoding.compact.bytes")
+                .tag("stage", "compact")
+                .description("압축 JSON 변환 후 메시지 크기")
+                .register(meterRegistry);
+    }
+
+    /**
+     * clientInboundChannel 용 : 압축 구독 관리
+     */
+    public ChannelInterceptor subscriptionTracker() {
+        return subscriptionTracker;
+    }
+
+    /**
+     * brokerChannel 용 : 구독자에게 나눠 보내기 전에 메시지당 1번 압축
+     */
+    public ChannelInterceptor brokerEncoder() {
+        return brokerEncoder;
+    }
+
+    /**
+     * clientOutboundChannel : 압축 구독이면 압축 payload 로 교체
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        // outbound 메시지에는 STOMP command 헤더가 없으므로 SimpMessageType 기준으로 구분
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (sessionId == null || subscriptionId == null) {
+            return message;
+        }
+        Map<String, String> subscriptions = compactSubscriptions.get(sessionId);
+        if (subscriptions == null || !subscriptions.containsKey(subscriptionId)
+                || !(message.getPayload() instanceof byte[] payload) || !isJson(accessor.getContentType())) {
+            return message;
+        }
+
+        byte[] compact = accessor.getHeader(COMPACT_PAYLOAD_HEADER) instanceof byte[] attached
+                ? attached
+                : compactCache.get(ByteBuffer.wrap(payload), key -> compact(payload));
+        if (compact == null) {
+            return message;
+        }
+        accessor.removeHeader(COMPACT_PAYLOAD_HEADER);
+        accessor.setContentType(CompactJsonCodec.COMPACT_JSON);
+        return MessageBuilder.createMessage(compact, accessor.getMessageHeaders());
+    }
+
+    // 변환 실패 시 null (원본 전송)
+    private byte[] compact(byte[] payload) {
+        byte[] compact;
+        try {
+            compact = compactJsonCodec.compact(payload);
+        } catch (IOException e) {
+            log.debug("압축 JSON 변환 실패, 원본 전송 : {}", e.getMessage());
+            return null;
+        }
+        originalBytes.increment(payload.length);
+        compactBytes.increment(compact.length);
+        return compact;
+    }
+
+    private void track(String sessionId, String subscriptionId, String destination) {
+        Map<String, String> subscriptions =
+                compactSubscriptions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>());
+        String previous = subscriptions.put(subscriptionId, destination);
+        if (previous != null) {
+            decrement(previous);
+        }
+        compactDestinations.merge(destination, 1, Integer::sum);
+    }
+
+    private void untrack(String sessionId, String subscriptionId) {
+        Map<String, String> subscriptions = compactSubscriptions.get(sessionId);
+        String destination = (subscriptions == null) ? null : subscriptions.remove(subscriptionId);
+        if (destination != null) {
+            decrement(destination);
+        }
+    }
+
+    private void untrackAll(String sessionId) {
+        Map<String, String> subscriptions = compactSubscriptions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    private void decrement(String destination) {
+        compactDestinations.computeIfPresent(destination, (key, count) -> count <= 1 ? null : count - 1);
+    }
+
+    private static boolean isJson(MimeType contentType) {
+        return contentType != null && MimeTypeUtils.APPLICATION_JSON.equalsTypeAndSubtype(contentType);
+    }
+
+    /**
+     * inbound : SUBSCRIBE / UNSUBSCRIBE / DISCONNECT 만 처리 (클라이언트 SEND 는 그대로 통과)
+     */
+    private class SubscriptionTracker implements ChannelInterceptor {
+        @Override
+        public Message<?> preSend(Message<?> message, MessageChannel channel) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+            SimpMessageType messageType = accessor.getMessageType();
+            String sessionId = accessor.getSessionId();
+            if (messageType == null || sessionId == null) {
+                return message;
+            }
+
+            switch (messageType) {
+                case SUBSCRIBE -> {
+                    MimeType requested = accessor.getContentType();
+                    if (accessor.getSubscriptionId() != null && accessor.getDestination() != null
+                            && requested != null && CompactJsonCodec.COMPACT_JSON.equalsTypeAndSubtype(requested)) {
+                        track(sessionId, accessor.getSubscriptionId(), accessor.getDestination());
+                    }
+                }
+                case UNSUBSCRIBE -> {
+                    if (accessor.getSubscriptionId() != null) {
+                        untrack(sessionId, accessor.getSubscriptionId());
+                    }
+                }
+                case DISCONNECT -> untrackAll(sessionId);
+                default -> {
+                }
+            }
+            return message;
+        }
+    }
+
+    /**
+     * broker : 압축 구독자가 있는 destination 의 JSON 메시지만 1번 압축해서 헤더로 첨부
+     */
+    private class BrokerEncoder implements ChannelInterceptor {
+        @Override
+        public Message<?> preSend(Message<?> message, MessageChannel channel) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+            String destination = accessor.getDestination();
+            if (accessor.getMessageType() != SimpMessageType.MESSAGE || destination == null
+                    || !compactDestinations.containsKey(destination)
+                    || !(message.getPayload() instanceof byte[] payload) || !isJson(accessor.getContentType())) {
+                return message;
+            }
+            byte[] compact = compact(payload);
+            if (compact == null) {
+                return message;
+            }
+            accessor.setHeader(COMPACT_PAYLOAD_HEADER, compact);
+            return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+        }
+    }
+}
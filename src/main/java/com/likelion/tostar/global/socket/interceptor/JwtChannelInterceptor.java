@@ -1,6 +1,12 @@
 package com.likelion.tostar.global.socket.interceptor;
 
+import com.likelion.tostar.domain.user.entity.User;
+import com.likelion.tostar.domain.user.repository.UserRepository;
 import com.likelion.tostar.global.jwt.util.JwtUtil;
+import com.likelion.tostar.global.socket.dto.ChatSessionUser;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -8,6 +14,7 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -16,34 +23,57 @@ import org.springframework.stereotype.Component;
 public class JwtChannelInterceptor implements ChannelInterceptor {
 
     private final JwtUtil jwtUtil;
+    private final UserRepository userRepository;
 
     // http://localhost:8080/ws/chat
     // Authorization : Bearer eyJldkjk...
-    // 요청시, JWT 인증 수행
+    // CONNECT 시 JWT 인증 수행, 이후 프레임은 CONNECT 때 저장한 만료 시각만 확인
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        // wrap 이 아닌 원본 accessor 를 사용해야 setUser 가 세션에 반영됨
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            accessor = StompHeaderAccessor.wrap(message);
+        }
+        StompCommand command = accessor.getCommand();
 
-        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
-
-        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
-            String authorization = accessor.getFirstNativeHeader("Authorization");
-            log.info("Received Authorization header: {}", authorization);
-
-            if (authorization != null && authorization.startsWith("Bearer ")) {
-                String token = authorization.substring(7);
-                if (!jwtUtil.isExpired(token)) {
-                    String email = jwtUtil.getEmail(token); // getEmail 메서드를 통해 이메일 추출
-                    accessor.setUser(() -> email); // Principal 등록
-                    log.info("User authenticated: {}", email);
-                } else {
-                    throw new RuntimeException("토큰이 만료되었거나 유효하지 않습니다.");
-                }
-            } else {
-                throw new RuntimeException("Authorization 헤더가 없거나 형식이 올바르지 않습니다.");
+        if (StompCommand.CONNECT.equals(command)) {
+            ChatSessionUser sessionUser = authenticate(accessor.getFirstNativeHeader("Authorization"));
+            Map<String, Object> attributes = accessor.getSessionAttributes();
+            if (attributes != null) {
+                attributes.put(ChatSessionUser.SESSION_ATTRIBUTE, sessionUser);
+            }
+            accessor.setUser(sessionUser); // Principal 등록
+            log.info("User authenticated: {}", sessionUser.getEmail());
+        } else if (StompCommand.SEND.equals(command) || StompCommand.SUBSCRIBE.equals(command)) {
+            if (ChatSessionUser.from(accessor).isExpired()) {
+                throw new RuntimeException("토큰이 만료되었습니다. 다시 연결해주세요.");
             }
         }
 
         return message;
     }
-}
 
+    /**
+     * 토큰을 한 번만 파싱해서 만료 시각, 이메일 추출 후 사용자 정보 조회
+     */
+    private ChatSessionUser authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            throw new RuntimeException("Authorization 헤더가 없거나 형식이 올바르지 않습니다.");
+        }
+        Claims claims;
+        try {
+            claims = jwtUtil.getAllClaims(authorization.substring(7));
+        } catch (JwtException e) {
+            throw new RuntimeException("토큰이 만료되었거나 유효하지 않습니다.");
+        }
+        long expiresAt = claims.getExpiration().getTime();
+        if (expiresAt <= System.currentTimeMillis()) {
+            throw new RuntimeException("토큰이 만료되었거나 유효하지 않습니다.");
+        }
+
+        User user = userRepository.findUserByEmail(claims.get("email", String.class))
+                .orElseThrow(() -> new RuntimeException("해당하는 사용자를 찾을 수 없습니다."));
+        return ChatSessionUser.of(user, expiresAt);
+    }
+}
@@ -0,0 +1,74 @@
+package com.likelion.tostar.domain.articles.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.likelion.tostar.domain.articles.repository.ArticleRepository;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * 이미지 수정 후 순서 : 요청 순서대로 저장되고 다시 조회해도 유지되는지 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ArticleImageOrderTest {
+
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    void 유지한_이미지와_새_이미지가_요청_순서대로_저장된다() {
+        Article article = Article.builder().title("title").content("content").build();
+        ArticleImage a = image("a");
+        ArticleImage b = image("b");
+        ArticleImage c = image("c");
+        article.addImage(a);
+        article.addImage(b);
+        article.addImage(c);
+        em.persist(article);
+        em.flush();
+
+        // c 유지, 새 이미지 d, a 는 해시가 같아 재사용 (b 는 제거)
+        ArticleImage d = image("d");
+        article.replaceImages(List.of(c, d, a));
+        assertThat(urls(article)).containsExactly("c", "d", "a");
+
+        em.flush();
+        em.clear();
+
+        Article reloaded = articleRepository.findDetailById(article.getId()).orElseThrow();
+        assertThat(urls(reloaded)).containsExactly("c", "d", "a");
+        assertThat(em.find(ArticleImage.class, b.getId())).isNull();
+    }
+
+    @Test
+    void 순서가_없는_기존_이미지는_id_순으로_조회된다() {
+        Article article = Article.builder().title("title").content("content").build();
+        em.persist(article);
+        em.flush();
+        for (String url : List.of("x", "y")) {
+            em.createNativeQuery("INSERT INTO article_image (url, article_id) VALUES (?, ?)")
+                    .setParameter(1, url)
+                    .setParameter(2, article.getId())
+                    .executeUpdate();
+        }
+        em.clear();
+
+        Article reloaded = articleRepository.findDetailById(article.getId()).orElseThrow();
+        assertThat(urls(reloaded)).containsExactly("x", "y");
+    }
+
+    private static ArticleImage image(String url) {
+        return ArticleImage.builder().url(url).contentHash(url).build();
+    }
+
+    private static List<String> urls(Article article) {
+        return article.getImages().stream().map(ArticleImage::getUrl).toList();
+    }
+}
@@ -0,0 +1,54 @@
+package com.likelion.tostar.domain.articles.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 피드 벤치마크용 데이터 적재 (JdbcTemplate 배치 INSERT)
+ * - 회원 1 ~ users, 조회 회원은 1번
+ * - 1번은 2 ~ friends + 1 번 회원과 친구
+ * - 게시글은 회원들에게 돌아가며 배정, id 가 클수록 최신 (1초 간격)
+ */
+class ArticleFeedSeeder {
+    static final long VIEWER_ID = 1L;
+    static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ArticleFeedSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    void seed(int users, int friends, int articles) {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= users; id++) {
+            rows.add(new Object[]{id, "user" + id + "@test.com", "pet" + id});
+        }
+        insert("INSERT INTO user (user_id, email, pet_name) VALUES (?, ?, ?)", rows);
+
+        rows.clear();
+        for (long followee = 2; followee <= friends + 1; followee++) {
+            rows.add(new Object[]{followee - 1, VIEWER_ID, followee});
+        }
+        insert("INSERT INTO relationship (id, follower, followee) VALUES (?, ?, ?)", rows);
+
+        rows.clear();
+        for (long id = 1; id <= articles; id++) {
+            long author = (id % users) + 1;
+            Timestamp createdAt = Timestamp.valueOf(BASE_TIME.plusSeconds(id));
+            rows.add(new Object[]{id, author, "title" + id, "content" + id, createdAt, createdAt});
+        }
+        insert("INSERT INTO article (id, user_id, title, content, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.likelion.tostar.domain.articles.repository;
+
+import static com.likelion.tostar.domain.articles.repository.ArticleFeedSeeder.VIEWER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.likelion.tostar.domain.articles.entity.Article;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 탐색 피드 조회 비교 (친구 id 목록 NOT IN + OFFSET + COUNT vs NOT EXISTS anti-join + 커서) : ./gradlew benchmark
+ * - 회원 2,000명, 조회 회원의 친구 500명, 게시글 40,000건
+ * - 첫 페이지 / 깊은 페이지(200번째, OFFSET 4,000) 각각 한 요청에 드는 시간
+ * H2(MySQL 모드) 기준이라 실행 계획은 MySQL 과 다르지만, 두 방식의 상대 비교와 결과 동일성 확인용
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ExploreFeedBenchmarkTest {
+    private static final int USERS = 2_000;
+    private static final int FRIENDS = 500;
+    private static final int ARTICLES = 40_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 200;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 50;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 탐색_피드_조회_방식_비교() {
+        new ArticleFeedSeeder(jdbcTemplate).seed(USERS, FRIENDS, ARTICLES);
+
+        // 첫 페이지
+        List<Long> offsetFirst = ids(offsetPage(0));
+        List<Long> keysetFirst = ids(articleRepository.findExploreArticles(VIEWER_ID, PageRequest.of(0, PAGE_SIZE)).getContent());
+        assertThat(keysetFirst).hasSize(PAGE_SIZE).isEqualTo(offsetFirst);
+        report("first page",
+                () -> offsetPage(0),
+                () -> articleRepository.findExploreArticles(VIEWER_ID, PageRequest.of(0, PAGE_SIZE)).getContent());
+
+        // 깊은 페이지 : 커서는 직전 페이지의 마지막 게시글 (클라이언트가 넘겨주는 값)
+        Article last = offsetPage(DEEP_PAGE - 1).get(PAGE_SIZE - 1);
+        Supplier<List<Article>> keysetDeep = () -> articleRepository.findExploreArticlesBefore(
+                VIEWER_ID, last.getCreatedAt(), last.getId(), PageRequest.of(0, PAGE_SIZE)).getContent();
+        assertThat(ids(keysetDeep.get())).hasSize(PAGE_SIZE).isEqualTo(ids(offsetPage(DEEP_PAGE)));
+        report("page " + DEEP_PAGE, () -> offsetPage(DEEP_PAGE), keysetDeep);
+    }
+
+    // 변경 전 방식 : 친구 id 목록 조회 -> NOT IN 목록으로 OFFSET 페이지 조회 -> 전체 개수 COUNT (Page)
+    private List<Article> offsetPage(int page) {
+        List<Long> excludingIds = new ArrayList<>(em.createQuery(
+                        "SELECT r.followee.id FROM Relationship r WHERE r.follower.id = :userId", Long.class)
+                .setParameter("userId", VIEWER_ID)
+                .getResultList());
+        excludingIds.add(VIEWER_ID);
+
+        List<Article> content = em.createQuery(
+                        "SELECT a FROM Article a WHERE a.user.id NOT IN :userIds ORDER BY a.createdAt DESC", Article.class)
+                .setParameter("userIds", excludingIds)
+                .setFirstResult(page * PAGE_SIZE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+        Long total = em.createQuery("SELECT COUNT(a) FROM Article a WHERE a.user.id NOT IN :userIds", Long.class)
+                .setParameter("userIds", excludingIds)
+                .getSingleResult();
+        assertThat(total).isPositive();
+        // 작성자 정보 (목록 응답에서 사용) : 변경 전에는 게시글마다 지연 로딩
+        content.forEach(article -> article.getUser().getPetName());
+        return content;
+    }
+
+    private void report(String name, Supplier<List<Article>> offset, Supplier<List<Article>> keyset) {
+        double offsetMicros = measure(offset);
+        double keysetMicros = measure(keyset);
+        System.out.printf("%-10s NOT IN+OFFSET+COUNT=%9.0f us  NOT EXISTS+cursor=%9.0f us  (x%.1f)%n",
+                name, offsetMicros, keysetMicros, offsetMicros / keysetMicros);
+    }
+
+    private double measure(Supplier<List<Article>> query) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += run(query);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += run(query);
+        }
+        double perOp = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+        assertThat(sink).isPositive();
+        return perOp;
+    }
+
+    private long run(Supplier<List<Article>> query) {
+        em.clear(); // 매 요청은 새 영속성 컨텍스트에서 시작
+        return query.get().size();
+    }
+
+    private static List<Long> ids(List<Article> articles) {
+        return articles.stream().map(Article::getId).toList();
+    }
+}
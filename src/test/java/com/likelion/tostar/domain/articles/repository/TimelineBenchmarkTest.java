@@ -0,0 +1,134 @@
+package com.likelion.tostar.domain.articles.repository;
+
+import static com.likelion.tostar.domain.articles.repository.ArticleFeedSeeder.VIEWER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.likelion.tostar.domain.articles.entity.Article;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 친구 타임라인 조회 비교 : ./gradlew benchmark
+ * - 친구 id 목록 IN + OFFSET + COUNT (단순 구현)
+ * - Relationship EXISTS + 커서 (fan-out-on-read, 친구가 많은 사용자 / 타임라인 생성 전)
+ * - 타임라인 테이블 + 커서 (fan-out-on-write)
+ * 회원 2,000명, 조회 회원의 친구 300명(fan-out 기준 500 이하), 게시글 40,000건 -> 타임라인 6,000건
+ * H2(MySQL 모드) 기준이라 실행 계획은 MySQL 과 다르지만, 세 방식의 상대 비교와 결과 동일성 확인용
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TimelineBenchmarkTest {
+    private static final int USERS = 2_000;
+    private static final int FRIENDS = 300;
+    private static final int ARTICLES = 40_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 50;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 50;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private TimelineRepository timelineRepository;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 친구_타임라인_조회_방식_비교() {
+        new ArticleFeedSeeder(jdbcTemplate).seed(USERS, FRIENDS, ARTICLES);
+        // 타임라인 생성 완료 상태 (친구 게시글 전체)
+        int materialized = jdbcTemplate.update(
+                "INSERT INTO timeline (owner_id, article_id, author_id, article_created_at) "
+                        + "SELECT r.follower, a.id, a.user_id, a.created_at FROM relationship r "
+                        + "JOIN article a ON a.user_id = r.followee WHERE r.follower = ?", VIEWER_ID);
+        assertThat(materialized).isPositive();
+
+        // 첫 페이지
+        PageRequest first = PageRequest.of(0, PAGE_SIZE);
+        List<Long> expected = ids(inListPage(0));
+        assertThat(expected).hasSize(PAGE_SIZE);
+        assertThat(ids(articleRepository.findFriendArticles(VIEWER_ID, first).getContent())).isEqualTo(expected);
+        assertThat(ids(timelineRepository.findTimeline(VIEWER_ID, first).getContent())).isEqualTo(expected);
+        report("first page",
+                () -> inListPage(0),
+                () -> articleRepository.findFriendArticles(VIEWER_ID, first).getContent(),
+                () -> timelineRepository.findTimeline(VIEWER_ID, first).getContent());
+
+        // 깊은 페이지 : 커서는 직전 페이지의 마지막 게시글
+        Article last = inListPage(DEEP_PAGE - 1).get(PAGE_SIZE - 1);
+        Supplier<List<Article>> existsDeep = () -> articleRepository.findFriendArticlesBefore(
+                VIEWER_ID, last.getCreatedAt(), last.getId(), first).getContent();
+        Supplier<List<Article>> timelineDeep = () -> timelineRepository.findTimelineBefore(
+                VIEWER_ID, last.getCreatedAt(), last.getId(), first).getContent();
+        expected = ids(inListPage(DEEP_PAGE));
+        assertThat(expected).hasSize(PAGE_SIZE);
+        assertThat(ids(existsDeep.get())).isEqualTo(expected);
+        assertThat(ids(timelineDeep.get())).isEqualTo(expected);
+        report("page " + DEEP_PAGE, () -> inListPage(DEEP_PAGE), existsDeep, timelineDeep);
+    }
+
+    // 단순 구현 : 친구 id 목록 조회 -> IN 목록으로 OFFSET 페이지 조회 -> 전체 개수 COUNT (Page), 작성자는 지연 로딩
+    private List<Article> inListPage(int page) {
+        List<Long> friendIds = em.createQuery(
+                        "SELECT r.followee.id FROM Relationship r WHERE r.follower.id = :userId", Long.class)
+                .setParameter("userId", VIEWER_ID)
+                .getResultList();
+
+        List<Article> content = em.createQuery(
+                        "SELECT a FROM Article a WHERE a.user.id IN :userIds ORDER BY a.createdAt DESC, a.id DESC",
+                        Article.class)
+                .setParameter("userIds", friendIds)
+                .setFirstResult(page * PAGE_SIZE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+        Long total = em.createQuery("SELECT COUNT(a) FROM Article a WHERE a.user.id IN :userIds", Long.class)
+                .setParameter("userIds", friendIds)
+                .getSingleResult();
+        assertThat(total).isPositive();
+        content.forEach(article -> article.getUser().getPetName());
+        return content;
+    }
+
+    private void report(String name, Supplier<List<Article>> inList,
+                        Supplier<List<Article>> exists, Supplier<List<Article>> timeline) {
+        double inListMicros = measure(inList);
+        double existsMicros = measure(exists);
+        double timelineMicros = measure(timeline);
+        System.out.printf("%-10s IN+OFFSET+COUNT=%9.0f us  EXISTS+cursor=%9.0f us  timeline+cursor=%9.0f us%n",
+                name, inListMicros, existsMicros, timelineMicros);
+    }
+
+    private double measure(Supplier<List<Article>> query) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += run(query);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += run(query);
+        }
+        double perOp = (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+        assertThat(sink).isPositive();
+        return perOp;
+    }
+
+    private long run(Supplier<List<Article>> query) {
+        em.clear(); // 매 요청은 새 영속성 컨텍스트에서 시작
+        return query.get().size();
+    }
+
+    private static List<Long> ids(List<Article> articles) {
+        return articles.stream().map(Article::getId).toList();
+    }
+}
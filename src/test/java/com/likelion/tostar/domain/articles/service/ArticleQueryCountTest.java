@@ -0,0 +1,161 @@
+package com.likelion.tostar.domain.articles.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.likelion.tostar.domain.articles.dto.ArticleSearchDetailResponseDto;
+import com.likelion.tostar.domain.articles.dto.ArticleSearchListResponseDto;
+import com.likelion.tostar.domain.articles.entity.Article;
+import com.likelion.tostar.domain.articles.entity.ArticleImage;
+import com.likelion.tostar.domain.user.entity.User;
+import com.likelion.tostar.global.response.ApiResponse;
+import com.likelion.tostar.global.s3.service.S3DeletionOutboxService;
+import com.likelion.tostar.global.s3.service.S3Service;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 추억 목록 / 상세 조회 쿼리 수 회귀 테스트
+ * 작성자, 이미지를 게시글마다 따로 조회(N+1)하지 않고, 페이지 크기와 관계없이 정해진 수의 쿼리로 조회되는지 확인
+ * - 목록 : 회원 확인 1 + 게시글(작성자 JOIN) 1 + 이미지 일괄 조회 1 (+ 전체 개수가 필요하면 COUNT 1)
+ * - 상세 : 게시글(작성자, 이미지 JOIN) 1
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ArticleServiceImpl.class, ArticleDetailCache.class, TimelineService.class, SimpleMeterRegistry.class})
+class ArticleQueryCountTest {
+
+    @Autowired
+    private ArticleService articleService;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private EntityManagerFactory emf;
+    @MockBean
+    private S3Service s3Service;
+    @MockBean
+    private S3DeletionOutboxService s3DeletionOutboxService;
+
+    private int userSeq = 0;
+
+    @Test
+    void 나의_추억_목록은_페이지_크기와_관계없이_3개_쿼리() {
+        User viewer = seedArticlesOfOneAuthor(20);
+
+        long small = countStatements(() -> articleService.getUserArticles(viewer.getId(), 0, 5, false), 5);
+        long large = countStatements(() -> articleService.getUserArticles(viewer.getId(), 0, 20, false), 20);
+
+        assertThat(small).isEqualTo(large);
+        assertThat(large).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void 전체_개수가_필요한_목록은_COUNT_쿼리_1개만_추가된다() {
+        User viewer = seedArticlesOfOneAuthor(20);
+
+        long slice = countStatements(() -> articleService.getUserArticles(viewer.getId(), 0, 20, false), 20);
+        long page = countStatements(() -> articleService.getFriendsArticlesByUserId(
+                viewer.getId(), viewer.getId(), 0, 20, true), 20);
+
+        assertThat(page).isEqualTo(slice + 1);
+    }
+
+    @Test
+    void 탐색_목록은_작성자가_모두_달라도_3개_쿼리() {
+        User viewer = seedUser();
+        // 게시글마다 다른 작성자 (N+1 이면 작성자 수만큼 쿼리 증가)
+        for (int i = 0; i < 20; i++) {
+            seedArticle(seedUser(), 2);
+        }
+
+        long small = countStatements(() -> articleService.getArticlesWithoutFriends(viewer.getId(), null, 0, 5), 5);
+        long large = countStatements(() -> articleService.getArticlesWithoutFriends(viewer.getId(), null, 0, 20), 20);
+
+        assertThat(small).isEqualTo(large);
+        assertThat(large).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void 추억_상세는_1개_쿼리() {
+        User author = seedUser();
+        Article article = seedArticle(author, 5);
+
+        em.flush();
+        em.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        ResponseEntity<?> response = articleService.searchArticleDetail(author.getId(), article.getId());
+
+        @SuppressWarnings("unchecked")
+        ArticleSearchDetailResponseDto body =
+                ((ApiResponse<ArticleSearchDetailResponseDto>) response.getBody()).getResult();
+        assertThat(body.getImages()).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private long countStatements(Supplier<ResponseEntity<?>> request, int expectedSize) {
+        em.flush();
+        em.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        ResponseEntity<?> response = request.get();
+
+        @SuppressWarnings("unchecked")
+        List<ArticleSearchListResponseDto> body =
+                ((ApiResponse<List<ArticleSearchListResponseDto>>) response.getBody()).getResult();
+        // 작성자, 이미지가 채워져 있어야 함 (응답 생성 중 지연 로딩으로 채운 것도 집계에 포함)
+        assertThat(body).hasSize(expectedSize)
+                .allSatisfy(article -> {
+                    assertThat(article.getAuthor().getPetName()).isNotNull();
+                    assertThat(article.getImages()).hasSize(2);
+                });
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Statistics statistics() {
+        return emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private User seedArticlesOfOneAuthor(int articles) {
+        User author = seedUser();
+        for (int i = 0; i < articles; i++) {
+            seedArticle(author, 2);
+        }
+        return author;
+    }
+
+    private User seedUser() {
+        int seq = userSeq++;
+        User user = User.builder()
+                .email("user" + seq + "@test.com")
+                .petName("pet" + seq)
+                .birthday(LocalDate.of(2015, 1, 1))
+                .starDay(LocalDate.of(2024, 1, 1))
+                .build();
+        em.persist(user);
+        return user;
+    }
+
+    private Article seedArticle(User author, int images) {
+        Article article = Article.builder().user(author).title("title").content("content").build();
+        for (int i = 0; i < images; i++) {
+            article.addImage(ArticleImage.builder().url("https://bucket.s3/" + i).build());
+        }
+        em.persist(article);
+        return article;
+    }
+}
@@ -0,0 +1,171 @@
+package com.likelion.tostar.domain.articles.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.likelion.tostar.domain.articles.dto.ArticleCreateModifyRequestDto;
+import com.likelion.tostar.domain.articles.entity.Article;
+import com.likelion.tostar.domain.articles.entity.ArticleImage;
+import com.likelion.tostar.domain.articles.repository.ArticleRepository;
+import com.likelion.tostar.domain.user.entity.User;
+import com.likelion.tostar.domain.user.repository.UserRepository;
+import com.likelion.tostar.global.config.OpenInViewConfig;
+import com.likelion.tostar.global.s3.service.S3DeletionOutboxService;
+import com.likelion.tostar.global.s3.service.S3Service;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 추억 등록 / 수정 : S3 업로드를 기다리는 동안 DB 커넥션을 잡지 않는지 확인
+ * 커넥션 풀 크기 1 ; 느린 업로드 중에 다른 요청이 커넥션을 얻을 수 있어야 함
+ * 요청 처리는 실제 open-in-view 인터셉터(OpenInViewConfig)로 감싸서 실행
+ * (각 단계의 커밋을 확인하기 위해 테스트 트랜잭션 없이 실행, 전용 DB 사용)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:article-pool;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=1000"
+})
+@Import({ArticleServiceImpl.class, ArticleDetailCache.class, SimpleMeterRegistry.class})
+class ArticleUploadConnectionPoolTest {
+
+    @Autowired
+    private ArticleService articleService;
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private EntityManagerFactory emf;
+    @MockBean
+    private S3Service s3Service;
+    @MockBean
+    private S3DeletionOutboxService s3DeletionOutboxService;
+    @MockBean
+    private TimelineService timelineService;
+
+    private final OpenEntityManagerInViewInterceptor openInView =
+            new OpenInViewConfig().openEntityManagerInViewInterceptor();
+    private final CountDownLatch uploadStarted = new CountDownLatch(1);
+    private final CountDownLatch uploadFinishes = new CountDownLatch(1);
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        openInView.setEntityManagerFactory(emf);
+        user = userRepository.save(User.builder()
+                .email("owner@test.com")
+                .petName("pet")
+                .birthday(LocalDate.of(2015, 1, 1))
+                .starDay(LocalDate.of(2024, 1, 1))
+                .build());
+        given(s3Service.uploadFiles(anyList())).willAnswer(invocation -> {
+            List<MultipartFile> files = invocation.getArgument(0);
+            if (files.isEmpty()) {
+                return List.of();
+            }
+            uploadStarted.countDown();
+            uploadFinishes.await(5, TimeUnit.SECONDS); // 느린 S3
+            return List.of("https://bucket.s3/new.png");
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        articleRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void 추억_등록_중_S3_업로드를_기다리는_동안_커넥션을_반환한다() throws Exception {
+        CompletableFuture<ResponseEntity<?>> create = CompletableFuture.supplyAsync(() ->
+                inRequest("POST", "/api/articles",
+                        () -> articleService.createArticle(user.getId(), request(null), List.of(image()))));
+
+        assertConnectionAvailableDuringUpload();
+
+        assertThat(create.get(5, TimeUnit.SECONDS).getStatusCode().value()).isEqualTo(200);
+        assertThat(articleRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 추억_수정_중_S3_업로드를_기다리는_동안_커넥션을_반환한다() throws Exception {
+        Article article = Article.builder().user(user).title("title").content("content").build();
+        article.addImage(ArticleImage.builder().url("https://bucket.s3/old.png").build());
+        Long articleId = articleRepository.save(article).getId();
+
+        CompletableFuture<ResponseEntity<?>> modify = CompletableFuture.supplyAsync(() ->
+                inRequest("PUT", "/api/articles/" + articleId,
+                        () -> articleService.modifyArticle(articleId, user.getId(), request(List.of()), List.of(image()))));
+
+        assertConnectionAvailableDuringUpload();
+
+        assertThat(modify.get(5, TimeUnit.SECONDS).getStatusCode().value()).isEqualTo(200);
+        verify(s3DeletionOutboxService).enqueueAll(List.of("https://bucket.s3/old.png"));
+    }
+
+    // 풀 크기 1 : 요청이 커넥션을 잡고 있으면 connection-timeout(1초) 후 실패
+    private void assertConnectionAvailableDuringUpload() throws Exception {
+        assertThat(uploadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        } finally {
+            uploadFinishes.countDown();
+        }
+    }
+
+    private <T> T inRequest(String method, String path, Supplier<T> handler) {
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest(method, path));
+        openInView.preHandle(request);
+        try {
+            return handler.get();
+        } finally {
+            openInView.afterCompletion(request, null);
+        }
+    }
+
+    private static ArticleCreateModifyRequestDto request(List<Long> keepImageIds) {
+        ArticleCreateModifyRequestDto request = new ArticleCreateModifyRequestDto();
+        request.setTitle("title");
+        request.setContent("content");
+        request.setKeepImageIds(keepImageIds);
+        return request;
+    }
+
+    private static MockMultipartFile image() {
+        return new MockMultipartFile("images", "new.png", "image/png", new byte[]{1, 2, 3});
+    }
+}
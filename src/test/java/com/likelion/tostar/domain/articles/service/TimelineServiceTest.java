@@ -0,0 +1,104 @@
+package com.likelion.tostar.domain.articles.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.likelion.tostar.domain.articles.repository.TimelineRepository;
+import com.likelion.tostar.domain.articles.repository.TimelineStateRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 타임라인 생성 상태 : rebuild 가 생성 완료를 기록하기 전에는 fan-out 대상이 아니고 조회에도 쓰지 않음
+ * (@Async 없이 호출 스레드에서 실행)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TimelineService.class)
+class TimelineServiceTest {
+    private static final long OWNER = 1L;
+    private static final long FRIEND = 2L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private TimelineService timelineService;
+    @Autowired
+    private TimelineRepository timelineRepository;
+    @Autowired
+    private TimelineStateRepository timelineStateRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO user (user_id, email) VALUES (?, ?), (?, ?)",
+                OWNER, "owner@test.com", FRIEND, "friend@test.com");
+        jdbcTemplate.update("INSERT INTO relationship (id, follower, followee) VALUES (1, ?, ?)", OWNER, FRIEND);
+        insertArticle(1L, FRIEND);
+    }
+
+    @Test
+    void 생성_전에는_fan_out_하지_않고_조회에도_쓰지_않는다() {
+        int inserted = timelineRepository.fanOut(1L, FRIEND, BASE_TIME.plusSeconds(1), 500);
+
+        assertThat(inserted).isZero();
+        assertThat(timelineService.isMaterialized(OWNER)).isFalse();
+    }
+
+    @Test
+    void rebuild_는_친구_게시글을_채우고_생성_완료를_기록한다() {
+        timelineService.rebuild(OWNER);
+
+        assertThat(timelineService.isMaterialized(OWNER)).isTrue();
+        assertThat(timelineRepository.count()).isEqualTo(1);
+
+        // 이후 등록된 게시글은 fan-out 으로 반영
+        insertArticle(2L, FRIEND);
+        assertThat(timelineRepository.fanOut(2L, FRIEND, BASE_TIME.plusSeconds(2), 500)).isEqualTo(1);
+    }
+
+    @Test
+    void 친구_게시글이_없어도_생성_완료로_기록되어_다시_생성하지_않는다() {
+        jdbcTemplate.update("DELETE FROM article");
+
+        timelineService.rebuild(OWNER);
+        assertThat(timelineService.isMaterialized(OWNER)).isTrue();
+
+        // 다시 호출해도 시작 기록에서 걸러짐 (backfill 하지 않음)
+        insertArticle(3L, FRIEND);
+        timelineService.rebuild(OWNER);
+        assertThat(timelineRepository.count()).isZero();
+    }
+
+    @Test
+    void 생성_중인_사용자는_다시_생성하지_않는다() {
+        timelineStateRepository.claim(OWNER, LocalDateTime.now());
+
+        timelineService.rebuild(OWNER);
+
+        assertThat(timelineService.isMaterialized(OWNER)).isFalse();
+        assertThat(timelineRepository.count()).isZero();
+    }
+
+    @Test
+    void 오래전에_중단된_생성은_다시_시작한다() {
+        timelineStateRepository.claim(OWNER, LocalDateTime.now().minusDays(1));
+
+        timelineService.rebuild(OWNER);
+
+        assertThat(timelineService.isMaterialized(OWNER)).isTrue();
+        assertThat(timelineRepository.count()).isEqualTo(1);
+    }
+
+    private void insertArticle(long id, long author) {
+        Timestamp createdAt = Timestamp.valueOf(BASE_TIME.plusSeconds(id));
+        jdbcTemplate.update("INSERT INTO article (id, user_id, title, content, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", id, author, "title" + id, "content" + id, createdAt, createdAt);
+    }
+}
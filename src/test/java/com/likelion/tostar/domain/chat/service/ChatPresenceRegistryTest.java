@@ -0,0 +1,84 @@
+package com.likelion.tostar.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.likelion.tostar.domain.chat.converter.ChatConverter;
+import com.likelion.tostar.global.socket.dto.ChatSessionUser;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+class ChatPresenceRegistryTest {
+    private static final Long ROOM = 1L;
+
+    private final ChatPresenceRegistry registry =
+            new ChatPresenceRegistry(mock(SimpMessagingTemplate.class), mock(ChatConverter.class));
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 구독과_연결_종료가_경합해도_종료된_세션은_접속자로_남지_않는다() throws Exception {
+        for (int i = 0; i < 2_000; i++) {
+            String sessionId = "session-" + i;
+            registry.connect(sessionId, user((long) i));
+            CyclicBarrier start = new CyclicBarrier(2);
+
+            CompletableFuture<Void> subscribe = CompletableFuture.runAsync(() -> {
+                await(start);
+                registry.subscribe(sessionId, "sub-0", ROOM);
+            }, executor);
+            CompletableFuture<Void> disconnect = CompletableFuture.runAsync(() -> {
+                await(start);
+                registry.disconnect(sessionId);
+            }, executor);
+            CompletableFuture.allOf(subscribe, disconnect).get(5, TimeUnit.SECONDS);
+
+            assertThat(registry.countOnline(ROOM)).isZero();
+        }
+    }
+
+    @Test
+    void 같은_사용자의_여러_세션은_마지막_세션이_끊길_때_퇴장한다() {
+        registry.connect("tab-1", user(7L));
+        registry.connect("tab-2", user(7L));
+        registry.subscribe("tab-1", "sub-0", ROOM);
+        registry.subscribe("tab-2", "sub-0", ROOM);
+        assertThat(registry.countOnline(ROOM)).isEqualTo(1);
+
+        registry.disconnect("tab-1");
+        assertThat(registry.countOnline(ROOM)).isEqualTo(1);
+
+        // 종료된 세션의 늦은 구독 해제는 다른 세션의 집계에 영향 없음
+        registry.unsubscribe("tab-1", "sub-0");
+        assertThat(registry.countOnline(ROOM)).isEqualTo(1);
+
+        registry.disconnect("tab-2");
+        assertThat(registry.countOnline(ROOM)).isZero();
+    }
+
+    private static ChatSessionUser user(Long userId) {
+        return ChatSessionUser.builder()
+                .userId(userId)
+                .email("user" + userId + "@test.com")
+                .petName("pet" + userId)
+                .build();
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
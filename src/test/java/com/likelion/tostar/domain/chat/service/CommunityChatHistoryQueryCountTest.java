@@ -0,0 +1,88 @@
+package com.likelion.tostar.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.likelion.tostar.domain.chat.converter.ChatConverter;
+import com.likelion.tostar.domain.chat.dto.CommunityChatHistoryResponseDTO;
+import com.likelion.tostar.domain.chat.entity.CommunityChat;
+import com.likelion.tostar.domain.chat.entity.enums.MessageType;
+import com.likelion.tostar.domain.community.entity.Community;
+import com.likelion.tostar.domain.user.entity.User;
+import com.likelion.tostar.global.response.ApiResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 채팅 내역 조회 쿼리 수 회귀 테스트
+ * 송신자를 채팅마다 따로 조회(N+1)하지 않고, 채팅 수와 관계없이 같은 수의 쿼리로 조회되는지 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CommunityChatQueryServiceImpl.class, ChatConverter.class})
+class CommunityChatHistoryQueryCountTest {
+
+    @Autowired
+    private CommunityChatQueryService communityChatQueryService;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private EntityManagerFactory emf;
+    @MockBean
+    private ChatPresenceRegistry chatPresenceRegistry;
+
+    private long chatId = 1;
+
+    @Test
+    void 채팅_수와_관계없이_조회_쿼리_수가_같다() {
+        Community small = seedCommunity("small", 5);
+        Community large = seedCommunity("large", 80);
+
+        long smallCount = countStatements(small.getId());
+        long largeCount = countStatements(large.getId());
+
+        // 존재 확인 1 + 채팅(송신자 JOIN) 1
+        assertThat(smallCount).isEqualTo(largeCount);
+        assertThat(largeCount).isLessThanOrEqualTo(2);
+    }
+
+    private long countStatements(Long communityId) {
+        em.flush();
+        em.clear();
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ResponseEntity<?> response = communityChatQueryService.getCommunityChatHistory(communityId, null, null, 100);
+
+        @SuppressWarnings("unchecked")
+        CommunityChatHistoryResponseDTO body =
+                ((ApiResponse<CommunityChatHistoryResponseDTO>) response.getBody()).getResult();
+        // 송신자 정보가 채워져 있어야 함 (조회 후 지연 로딩으로 채운 것이 아님)
+        assertThat(body.getChats()).isNotEmpty()
+                .allSatisfy(chat -> assertThat(chat.getPetName()).isNotNull());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Community seedCommunity(String title, int chats) {
+        Community community = Community.builder().title(title).build();
+        em.persist(community);
+        for (int i = 0; i < chats; i++) {
+            // 채팅마다 다른 송신자 (N+1 이면 송신자 수만큼 쿼리 증가)
+            User sender = User.builder()
+                    .email(title + i + "@test.com")
+                    .petName("pet" + i)
+                    .build();
+            em.persist(sender);
+            em.persist(CommunityChat.toCommunityChat(chatId++, "chat" + i, MessageType.TALK, community, sender));
+        }
+        return community;
+    }
+}
@@ -0,0 +1,44 @@
+package com.likelion.tostar.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class CommunityChatIdGeneratorTest {
+
+    @Test
+    void relay_모드에서_node_id_가_없으면_기동에_실패한다() {
+        assertThatThrownBy(() -> new CommunityChatIdGenerator("", "relay"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void simple_모드에서는_node_id_가_없으면_0_을_쓴다() {
+        CommunityChatIdGenerator generator = new CommunityChatIdGenerator("", "simple");
+        assertThat((generator.nextId() >> 12) & 1023).isZero();
+    }
+
+    @Test
+    void 노드가_다르면_같은_시각에도_id_가_겹치지_않고_노드_안에서는_증가한다() {
+        CommunityChatIdGenerator node1 = new CommunityChatIdGenerator("1", "relay");
+        CommunityChatIdGenerator node2 = new CommunityChatIdGenerator("2", "relay");
+
+        long previous = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long id1 = node1.nextId();
+            long id2 = node2.nextId();
+            assertThat(id1).isNotEqualTo(id2);
+            assertThat((id1 >> 12) & 1023).isEqualTo(1);
+            assertThat((id2 >> 12) & 1023).isEqualTo(2);
+            assertThat(id1).isGreaterThan(previous);
+            previous = id1;
+        }
+    }
+
+    @Test
+    void 범위를_벗어난_node_id_는_거부한다() {
+        assertThatThrownBy(() -> new CommunityChatIdGenerator("1024", "relay"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
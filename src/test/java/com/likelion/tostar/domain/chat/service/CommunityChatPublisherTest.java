@@ -0,0 +1,115 @@
+package com.likelion.tostar.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.likelion.tostar.domain.chat.dto.CommunityChatResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class CommunityChatPublisherTest {
+
+    private static final Long ROOM = 1L;
+
+    private final List<String> delivered = new CopyOnWriteArrayList<>();
+    private final CountDownLatch sendStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseSend = new CountDownLatch(1);
+    private CommunityChatPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        // 단건 전송 ; "blocked" 채팅은 테스트가 풀어줄 때까지 전송이 끝나지 않음 (느린 브로커)
+        doAnswer(invocation -> {
+            CommunityChatResponseDTO chat = invocation.getArgument(1);
+            if ("blocked".equals(chat.getContent())) {
+                sendStarted.countDown();
+                releaseSend.await(5, TimeUnit.SECONDS);
+            }
+            delivered.add(chat.getContent());
+            return null;
+        }).when(messagingTemplate).convertAndSend(anyString(), any(Object.class));
+        // 묶음 전송
+        doAnswer(invocation -> {
+            List<CommunityChatResponseDTO> batch = invocation.getArgument(1);
+            batch.forEach(chat -> delivered.add(chat.getContent()));
+            return null;
+        }).when(messagingTemplate).convertAndSend(anyString(), any(Object.class), anyMap());
+
+        publisher = new CommunityChatPublisher(messagingTemplate, mock(RecentChatBuffer.class),
+                new SimpleMeterRegistry(), true, 20, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSend.countDown();
+        publisher.shutdown();
+    }
+
+    @Test
+    void 묶음을_전송하는_동안_들어온_채팅은_묶음보다_먼저_전송되지_않는다() throws Exception {
+        publisher.publish(ROOM, chat("first"));   // 1건/초 : 단건 전송
+        publisher.publish(ROOM, chat("blocked")); // 2건/초 : 묶음 대기 -> flush 에서 전송하다 멈춤
+        assertThat(sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 전송률이 다시 낮아진 뒤(2초 경과) 들어온 채팅 : 대기 묶음은 비었지만 아직 전송 중
+        Thread.sleep(2_100);
+        publisher.publish(ROOM, chat("after"));
+        assertThat(delivered).containsExactly("first");
+
+        releaseSend.countDown();
+        awaitDelivered(3);
+        assertThat(delivered).containsExactly("first", "blocked", "after");
+    }
+
+    @Test
+    void 한산한_방은_바로_단건_전송한다() {
+        publisher.publish(ROOM, chat("a"));
+        assertThat(delivered).containsExactly("a");
+    }
+
+    @Test
+    void 제거된_방_상태에는_채팅을_넣지_않고_새_상태로_전송한다() {
+        publisher.publish(ROOM, chat("a"));
+        Map<Long, ?> rooms = roomStates();
+        Object evicted = rooms.get(ROOM);
+        ReflectionTestUtils.setField(evicted, "lastMessageAt", 0L);
+
+        publisher.evictIdleRooms();
+        assertThat(rooms).isEmpty();
+        assertThat(ReflectionTestUtils.getField(evicted, "closed")).isEqualTo(true);
+
+        publisher.publish(ROOM, chat("b"));
+        assertThat(rooms.get(ROOM)).isNotNull().isNotSameAs(evicted);
+        assertThat(delivered).containsExactly("a", "b");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, ?> roomStates() {
+        return (Map<Long, ?>) ReflectionTestUtils.getField(publisher, "rooms");
+    }
+
+    private void awaitDelivered(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (delivered.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private CommunityChatResponseDTO chat(String content) {
+        return CommunityChatResponseDTO.builder().content(content).build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.likelion.tostar.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.likelion.tostar.domain.chat.dto.CommunityChatResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class RecentChatBufferTest {
+
+    @Test
+    void 방_수_상한이_1_이면_새_방이_들어올_때_기존_방을_제거한다() {
+        RecentChatBuffer buffer = new RecentChatBuffer(new SimpleMeterRegistry(), 10, 1, 600_000);
+
+        buffer.append(1L, chat(1L));
+        buffer.append(2L, chat(2L));
+
+        assertThat(buffer.findAfter(1L, 0L)).isEmpty();
+        assertThat(buffer.findAfter(2L, 2L)).hasValueSatisfying(chats -> assertThat(chats).isEmpty());
+        assertThat(buffer.findBufferedAfter(2L, 0L)).extracting(CommunityChatResponseDTO::getChatId).containsExactly(2L);
+    }
+
+    @Test
+    void 추가_순서와_관계없이_chatId_순으로_보관하고_조회한다() {
+        RecentChatBuffer buffer = new RecentChatBuffer(new SimpleMeterRegistry(), 3, 10, 600_000);
+
+        // 동시 전송으로 chatId 가 큰 채팅이 먼저 추가된 경우
+        buffer.append(1L, chat(10L));
+        buffer.append(1L, chat(12L));
+        buffer.append(1L, chat(11L));
+
+        assertThat(buffer.findBufferedAfter(1L, 10L)).extracting(CommunityChatResponseDTO::getChatId)
+                .containsExactly(11L, 12L);
+
+        // 가득 차면 chatId 가 가장 작은 채팅부터 제거 -> 남은 가장 작은 chatId 보다 이전 기준은 버퍼로 보장할 수 없음
+        buffer.append(1L, chat(13L));
+        assertThat(buffer.findAfter(1L, 11L)).hasValueSatisfying(chats ->
+                assertThat(chats).extracting(CommunityChatResponseDTO::getChatId).containsExactly(12L, 13L));
+        assertThat(buffer.findAfter(1L, 10L)).isEmpty();
+    }
+
+    @Test
+    void 방_수_상한이나_방_크기가_1_미만이면_거부한다() {
+        assertThatThrownBy(() -> new RecentChatBuffer(new SimpleMeterRegistry(), 10, 0, 600_000))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RecentChatBuffer(new SimpleMeterRegistry(), 0, 10, 600_000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CommunityChatResponseDTO chat(Long chatId) {
+        return CommunityChatResponseDTO.builder()
+                .chatId(chatId)
+                .content("chat " + chatId)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.likelion.tostar.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.likelion.tostar.domain.chat.entity.CommunityChat;
+import com.likelion.tostar.domain.chat.entity.CommunityChatDeadLetter;
+import com.likelion.tostar.domain.chat.entity.enums.MessageType;
+import com.likelion.tostar.domain.chat.repository.CommunityChatDeadLetterRepository;
+import com.likelion.tostar.domain.chat.repository.CommunityChatRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class WriteBehindCommunityChatWriterTest {
+
+    private CommunityChatRepository chatRepository;
+    private CommunityChatDeadLetterRepository deadLetterRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private WriteBehindCommunityChatWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        chatRepository = mock(CommunityChatRepository.class);
+        deadLetterRepository = mock(CommunityChatDeadLetterRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        // flusher 스레드는 시작하지 않고 shutdown() 의 잔여 처리로 flush 를 실행
+        writer = new WriteBehindCommunityChatWriter(chatRepository, deadLetterRepository,
+                mock(PlatformTransactionManager.class), meterRegistry,
+                100, 100, 10, 0, 2, 1);
+    }
+
+    @Test
+    void 일괄_저장이_성공하면_재시도하지_않는다() throws InterruptedException {
+        writer.write(chat(1L, "a"));
+        writer.write(chat(2L, "b"));
+
+        writer.shutdown();
+
+        verify(chatRepository, times(1)).saveAll(anyList());
+        assertThat(meterRegistry.counter("chat.persistence.flushed").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("chat.persistence.retried").count()).isZero();
+    }
+
+    @Test
+    void 일괄_저장이_계속_실패하면_건별로_저장하고_실패한_건만_dead_letter_로_보관한다() throws InterruptedException {
+        CommunityChat good = chat(1L, "ok");
+        CommunityChat bad = chat(2L, "bad");
+        when(chatRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("batch"));
+        when(chatRepository.save(bad)).thenThrow(new DataIntegrityViolationException("row"));
+
+        writer.write(good);
+        writer.write(bad);
+        writer.shutdown();
+
+        // 최초 1회 + 재시도 2회
+        verify(chatRepository, times(3)).saveAll(anyList());
+        verify(chatRepository).save(good);
+        ArgumentCaptor<CommunityChatDeadLetter> captor = ArgumentCaptor.forClass(CommunityChatDeadLetter.class);
+        verify(deadLetterRepository).save(captor.capture());
+        assertThat(captor.getValue().getChatId()).isEqualTo(2L);
+        assertThat(captor.getValue().getContent()).isEqualTo("bad");
+
+        assertThat(meterRegistry.counter("chat.persistence.retried").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("chat.persistence.flushed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("chat.persistence.dead_letter").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 재시도_중_성공하면_건별_저장으로_넘어가지_않는다() throws InterruptedException {
+        List<Integer> calls = new ArrayList<>();
+        when(chatRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            calls.add(1);
+            if (calls.size() == 1) {
+                throw new DataIntegrityViolationException("transient");
+            }
+            return invocation.getArgument(0);
+        });
+
+        writer.write(chat(1L, "a"));
+        writer.shutdown();
+
+        verify(chatRepository, times(2)).saveAll(anyList());
+        verify(chatRepository, times(0)).save(any());
+        assertThat(meterRegistry.counter("chat.persistence.flushed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 실패한_flush_뒤_재시도와_건별_저장은_다시_신규로_저장한다() throws InterruptedException {
+        CommunityChat chat = chat(1L, "a");
+        List<Boolean> batchNew = new ArrayList<>();
+        when(chatRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<CommunityChat> chats = invocation.getArgument(0);
+            chats.forEach(saved -> batchNew.add(saved.isNew()));
+            // persist 후 flush 단계에서 실패 : @PostPersist 로 신규 표시가 풀린 채 rollback
+            chats.forEach(saved -> ReflectionTestUtils.invokeMethod(saved, "markNotNew"));
+            throw new DataIntegrityViolationException("flush");
+        });
+        List<Boolean> rowNew = new ArrayList<>();
+        when(chatRepository.save(any())).thenAnswer(invocation -> {
+            rowNew.add(invocation.<CommunityChat>getArgument(0).isNew());
+            return invocation.getArgument(0);
+        });
+
+        writer.write(chat);
+        writer.shutdown();
+
+        // 재시도마다 merge(SELECT) 가 아니라 persist 로 저장
+        assertThat(batchNew).containsExactly(true, true, true);
+        assertThat(rowNew).containsExactly(true);
+        assertThat(meterRegistry.counter("chat.persistence.flushed").count()).isEqualTo(1);
+    }
+
+    private CommunityChat chat(Long id, String content) {
+        return CommunityChat.toCommunityChat(id, content, MessageType.TALK, null, null);
+    }
+}
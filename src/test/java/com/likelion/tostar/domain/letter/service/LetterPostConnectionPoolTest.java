@@ -0,0 +1,143 @@
+package com.likelion.tostar.domain.letter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.likelion.tostar.domain.letter.dto.LetterPostRequestDto;
+import com.likelion.tostar.domain.letter.repository.LetterRepository;
+import com.likelion.tostar.domain.user.entity.User;
+import com.likelion.tostar.domain.user.repository.UserRepository;
+import java.sql.Connection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 편지 전송 : 답장 생성(모델 호출)을 기다리는 동안 DB 커넥션을 잡지 않는지, 답장 실패 / 스트리밍 거절 시 보낸 편지가 남지 않는지 확인
+ * 커넥션 풀 크기 1 ; 느린 모델 호출 중에 다른 요청이 커넥션을 얻을 수 있어야 함
+ * (각 단계의 커밋을 확인하기 위해 테스트 트랜잭션 없이 실행, 전용 DB 사용)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:letter-pool;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=1000"
+})
+@Import(LetterServiceImpl.class)
+class LetterPostConnectionPoolTest {
+
+    @Autowired
+    private LetterService letterService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private LetterRepository letterRepository;
+    @Autowired
+    private DataSource dataSource;
+    @MockBean
+    private LetterReplyGenerator letterReplyGenerator;
+    @MockBean
+    private LetterReplyWorker letterReplyWorker;
+    @MockBean(name = "letterStreamExecutor")
+    private TaskExecutor letterStreamExecutor;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("owner@test.com")
+                .ownerName("언니")
+                .category("Dog")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        letterRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void 모델_응답을_기다리는_동안_커넥션을_반환한다() throws Exception {
+        CountDownLatch modelCalled = new CountDownLatch(1);
+        CountDownLatch modelReplies = new CountDownLatch(1);
+        given(letterReplyGenerator.generate(any(), any(), any())).willAnswer(invocation -> {
+            modelCalled.countDown();
+            modelReplies.await(5, TimeUnit.SECONDS); // 느린 모델 서버
+            return Optional.of("답장");
+        });
+
+        CompletableFuture<ResponseEntity<?>> post =
+                CompletableFuture.supplyAsync(() -> letterService.post(user.getId(), request("편지")));
+        assertThat(modelCalled.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 풀 크기 1 : 편지 전송이 커넥션을 잡고 있으면 connection-timeout(1초) 후 실패
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+
+        modelReplies.countDown();
+        assertThat(post.get(5, TimeUnit.SECONDS).getStatusCode().value()).isEqualTo(200);
+        assertThat(letterRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void 답장이_비어_있으면_보낸_편지를_지운다() {
+        given(letterReplyGenerator.generate(any(), any(), any())).willReturn(Optional.empty());
+
+        ResponseEntity<?> response = letterService.post(user.getId(), request("편지"));
+
+        assertThat(response.getStatusCode().value()).isEqualTo(502);
+        assertThat(letterRepository.count()).isZero();
+    }
+
+    @Test
+    void 답장_생성_중_예외가_나면_보낸_편지를_지운다() {
+        given(letterReplyGenerator.generate(any(), any(), any())).willThrow(new IllegalStateException("model"));
+
+        assertThatThrownBy(() -> letterService.post(user.getId(), request("편지")))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(letterRepository.count()).isZero();
+    }
+
+    @Test
+    void 스트리밍_스레드가_모두_사용_중이면_보낸_편지를_지우고_모델을_호출하지_않는다() {
+        willThrow(new TaskRejectedException("busy")).given(letterStreamExecutor).execute(any());
+
+        SseEmitter emitter = letterService.postStream(user.getId(), request("편지"));
+
+        assertThat(emitter).isNotNull();
+        assertThat(letterRepository.count()).isZero();
+        verifyNoInteractions(letterReplyGenerator);
+    }
+
+    private static LetterPostRequestDto request(String content) {
+        LetterPostRequestDto request = new LetterPostRequestDto();
+        request.setContent(content);
+        return request;
+    }
+}
@@ -0,0 +1,100 @@
+package com.likelion.tostar.domain.letter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.tostar.global.openAi.guard.ModelCallGuard;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 답장 스트리밍 : 모델 서버 대역(JDK HttpServer)이 SSE 조각을 시간 간격을 두고 보낼 때
+ * 조각이 도착하는 대로 순서대로 전달되고, 끝나면 이어붙인 답장을 반환하는지 확인
+ */
+class LetterReplyGeneratorStreamTest {
+    private static final List<String> TOKENS = List.of("사랑하는 ", "언니", "에게 ", "ʚ♡ɞ");
+    private static final long CHUNK_INTERVAL_MS = 150;
+
+    private HttpServer server;
+    private final AtomicReference<String> requestBody = new AtomicReference<>();
+    private LetterReplyGenerator generator;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", exchange -> {
+            requestBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0); // chunked
+            try (OutputStream body = exchange.getResponseBody()) {
+                for (String token : TOKENS) {
+                    write(body, "data: {\"choices\":[{\"index\":0,\"delta\":{\"content\":\"" + token + "\"}}]}\n\n");
+                    sleep(CHUNK_INTERVAL_MS);
+                }
+                write(body, ": keep-alive\n\n");
+                write(body, "data: {\"choices\":[{\"index\":0,\"delta\":{},\"finish_reason\":\"stop\"}]}\n\n");
+                write(body, "data: [DONE]\n\n");
+            }
+        });
+        server.start();
+
+        ModelCallGuard guard = new ModelCallGuard(new SimpleMeterRegistry(),
+                10, 2, 50, 50, 2000, 2.0, 0.05, 1000, 0.9, 20, 10, 0.5, 30000, 30000, 2);
+        generator = new LetterReplyGenerator(new RestTemplate(), new ObjectMapper(), guard);
+        ReflectionTestUtils.setField(generator, "API_URL",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions");
+        ReflectionTestUtils.setField(generator, "MODEL", "gpt-test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 조각을_도착하는_대로_순서대로_전달하고_완성본을_반환한다() {
+        List<String> received = new ArrayList<>();
+        List<Long> receivedAt = new ArrayList<>();
+        long start = System.nanoTime();
+
+        Optional<String> reply = generator.generateStream("언니", "Dog", "보고 싶어", token -> {
+            received.add(token);
+            receivedAt.add(System.nanoTime());
+        });
+        long total = System.nanoTime() - start;
+
+        assertThat(received).containsExactlyElementsOf(TOKENS);
+        assertThat(reply).contains(String.join("", TOKENS));
+        assertThat(requestBody.get()).contains("\"stream\":true");
+        // 첫 조각은 스트림이 끝나기 전에 전달 (전체를 모아서 한 번에 주지 않음)
+        long firstTokenNanos = receivedAt.get(0) - start;
+        assertThat(total - firstTokenNanos)
+                .isGreaterThanOrEqualTo((TOKENS.size() - 1) * CHUNK_INTERVAL_MS * 1_000_000 / 2);
+    }
+
+    private static void write(OutputStream body, String chunk) throws IOException {
+        body.write(chunk.getBytes(StandardCharsets.UTF_8));
+        body.flush();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.likelion.tostar.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * open-in-view 범위 : 편지 전송, 추억 등록 / 수정만 제외되고 나머지 요청은 그대로 EntityManager 를 열어두는지 확인
+ */
+class OpenInViewConfigTest {
+
+    private final EntityManagerFactory emf = mock(EntityManagerFactory.class);
+    private final EntityManager em = mock(EntityManager.class);
+    private final OpenEntityManagerInViewInterceptor interceptor =
+            new OpenInViewConfig().openEntityManagerInViewInterceptor();
+
+    OpenInViewConfigTest() {
+        when(emf.createEntityManager()).thenReturn(em);
+        when(em.isOpen()).thenReturn(true);
+        interceptor.setEntityManagerFactory(emf);
+    }
+
+    @Test
+    void 편지_전송은_EntityManager_를_열지_않는다() {
+        for (String path : new String[]{"/api/letters", "/api/letters/stream"}) {
+            ServletWebRequest request = request("POST", path);
+
+            interceptor.preHandle(request);
+            assertThat(TransactionSynchronizationManager.hasResource(emf)).isFalse();
+            interceptor.afterCompletion(request, null);
+        }
+        verifyNoInteractions(em);
+    }
+
+    @Test
+    void 추억_등록과_수정은_EntityManager_를_열지_않는다() {
+        for (ServletWebRequest request : new ServletWebRequest[]{
+                request("POST", "/api/articles"), request("PUT", "/api/articles/3")}) {
+            interceptor.preHandle(request);
+            assertThat(TransactionSynchronizationManager.hasResource(emf)).isFalse();
+            interceptor.afterCompletion(request, null);
+        }
+        verifyNoInteractions(em);
+    }
+
+    @Test
+    void 추억_조회는_EntityManager_를_열어둔다() {
+        ServletWebRequest request = request("GET", "/api/articles/3");
+
+        interceptor.preHandle(request);
+        assertThat(TransactionSynchronizationManager.hasResource(emf)).isTrue();
+        interceptor.afterCompletion(request, null);
+
+        assertThat(TransactionSynchronizationManager.hasResource(emf)).isFalse();
+        verify(em).close();
+    }
+
+    @Test
+    void 편지_조회는_EntityManager_를_열어둔다() {
+        ServletWebRequest request = request("GET", "/api/letters");
+
+        interceptor.preHandle(request);
+        assertThat(TransactionSynchronizationManager.hasResource(emf)).isTrue();
+        interceptor.afterCompletion(request, null);
+
+        assertThat(TransactionSynchronizationManager.hasResource(emf)).isFalse();
+        verify(em).close();
+    }
+
+    private static ServletWebRequest request(String method, String path) {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest(method, path);
+        return new ServletWebRequest(servletRequest);
+    }
+}
@@ -0,0 +1,121 @@
+package com.likelion.tostar.global.openAi.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.metrics.web.client.ObservationRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * OpenAI RestTemplate : 모델 서버 대역(JDK HttpServer)에 요청했을 때
+ * 커넥션 풀 메트릭(openai.http.pool.*)과 요청 지연 메트릭(http.client.requests)이 기록되는지,
+ * 종료 시 HTTP 클라이언트가 정리되는지 확인
+ */
+class OpenAiConfigTest {
+    private static final int MAX_CONNECTIONS = 7;
+
+    private HttpServer server;
+    private final AtomicReference<String> authorization = new AtomicReference<>();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RestTemplateBuilder restTemplateBuilder;
+    private OpenAiConfig openAiConfig;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", exchange -> {
+            authorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            byte[] body = "{\"choices\":[]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+
+        // Spring Boot 자동 설정과 같은 구성 : observation -> Micrometer timer
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        restTemplateBuilder = new RestTemplateBuilder(new ObservationRestTemplateCustomizer(
+                observationRegistry, new DefaultClientRequestObservationConvention()));
+
+        openAiConfig = new OpenAiConfig();
+        ReflectionTestUtils.setField(openAiConfig, "openAiKey", "test-key");
+        ReflectionTestUtils.setField(openAiConfig, "maxConnections", MAX_CONNECTIONS);
+        ReflectionTestUtils.setField(openAiConfig, "connectTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(openAiConfig, "leaseTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(openAiConfig, "readTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(openAiConfig, "idleEvictMs", 30000L);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        openAiConfig.closeHttpClient();
+        server.stop(0);
+    }
+
+    @Test
+    void 커넥션_풀과_요청_지연_메트릭을_기록한다() {
+        ReflectionTestUtils.setField(openAiConfig, "httpVersion", "http1");
+        RestTemplate restTemplate = openAiConfig.template(restTemplateBuilder, meterRegistry);
+
+        for (int i = 0; i < 3; i++) {
+            restTemplate.postForObject(url, "{}", String.class);
+        }
+
+        assertThat(authorization.get()).isEqualTo("Bearer test-key");
+        Timer timer = meterRegistry.find("http.client.requests")
+                .tag("method", "POST")
+                .tag("status", "200")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(3);
+
+        assertThat(gauge("openai.http.pool.max")).isEqualTo(MAX_CONNECTIONS);
+        assertThat(gauge("openai.http.pool.leased")).isZero();
+        assertThat(gauge("openai.http.pool.pending")).isZero();
+        // keep-alive : 순차 요청 3건이 커넥션 1개를 재사용하고 풀에 반환
+        assertThat(gauge("openai.http.pool.available")).isEqualTo(1);
+    }
+
+    @Test
+    void http2_모드는_요청_지연을_기록하고_종료_시_클라이언트를_정리한다() throws Exception {
+        ReflectionTestUtils.setField(openAiConfig, "httpVersion", "http2");
+        RestTemplate restTemplate = openAiConfig.template(restTemplateBuilder, meterRegistry);
+
+        restTemplate.postForObject(url, "{}", String.class);
+
+        assertThat(meterRegistry.find("http.client.requests").timer().count()).isEqualTo(1);
+        // 풀 메트릭은 Apache HttpClient 모드에서만
+        assertThat(meterRegistry.find("openai.http.pool.max").gauge()).isNull();
+
+        ExecutorService executor = (ExecutorService) ReflectionTestUtils.getField(openAiConfig, "http2Executor");
+        openAiConfig.closeHttpClient();
+        assertThat(executor.isShutdown()).isTrue();
+        assertThat(ReflectionTestUtils.getField(openAiConfig, "http2Client")).isNull();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+}
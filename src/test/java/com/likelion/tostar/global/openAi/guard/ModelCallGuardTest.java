@@ -0,0 +1,242 @@
+package com.likelion.tostar.global.openAi.guard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.likelion.tostar.global.openAi.guard.ModelCallGuard.State;
+import com.likelion.tostar.global.openAi.guard.ModelCallRejectedException.Reason;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 모델 호출 보호 : circuit 상태 전이 (closed -> open -> half-open -> closed / open), 느린 호출 판정, 한도 조정
+ */
+class ModelCallGuardTest {
+    private static final int WINDOW = 4;
+    private static final long SLOW_CALL_MS = 100;
+    private static final long OPEN_DURATION_MS = 50;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // initialLimit, maxLimit, backoffRatio, baselineAlpha 만 바꿔 가며 사용
+    private ModelCallGuard guard(int initialLimit, int maxLimit, double backoffRatio, double baselineAlpha) {
+        return new ModelCallGuard(meterRegistry, initialLimit, 1, maxLimit, 0, 1000,
+                2.0, baselineAlpha, 20, backoffRatio, WINDOW, WINDOW, 0.5, SLOW_CALL_MS, OPEN_DURATION_MS, 2);
+    }
+
+    private ModelCallGuard guard() {
+        return guard(10, 50, 0.5, 0.05);
+    }
+
+    @Test
+    void 실패율이_임계를_넘으면_열리고_호출하지_않는다() {
+        ModelCallGuard guard = guard();
+        guard.execute(() -> "ok");
+        guard.execute(() -> "ok");
+        fail(guard);
+        assertThat(guard.getState()).isEqualTo(State.CLOSED); // 최소 호출 수 전
+
+        fail(guard);
+        assertThat(guard.getState()).isEqualTo(State.OPEN);
+
+        AtomicBoolean called = new AtomicBoolean();
+        assertThatThrownBy(() -> guard.execute(() -> called.getAndSet(true)))
+                .isInstanceOf(ModelCallRejectedException.class)
+                .extracting("reason").isEqualTo(Reason.CIRCUIT_OPEN);
+        assertThat(called).isFalse();
+    }
+
+    @Test
+    void 열린_시간이_지나면_half_open_이_되고_시험_호출이_모두_성공하면_닫힌다() throws Exception {
+        ModelCallGuard guard = guard();
+        open(guard);
+        Thread.sleep(OPEN_DURATION_MS * 2);
+
+        guard.execute(() -> "ok");
+        assertThat(guard.getState()).isEqualTo(State.HALF_OPEN);
+
+        guard.execute(() -> "ok");
+        assertThat(guard.getState()).isEqualTo(State.CLOSED);
+
+        // 닫히면 실패 집계를 새로 시작 : 실패 한 번으로는 다시 열리지 않음
+        fail(guard);
+        assertThat(guard.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void half_open_시험_호출이_실패하면_다시_열린다() throws Exception {
+        ModelCallGuard guard = guard();
+        open(guard);
+        Thread.sleep(OPEN_DURATION_MS * 2);
+
+        fail(guard);
+        assertThat(guard.getState()).isEqualTo(State.OPEN);
+        assertThatThrownBy(() -> guard.execute(() -> "ok"))
+                .isInstanceOf(ModelCallRejectedException.class);
+    }
+
+    @Test
+    void half_open_에서는_시험_호출_수를_넘는_호출을_거절한다() throws Exception {
+        ModelCallGuard guard = guard();
+        open(guard);
+        Thread.sleep(OPEN_DURATION_MS * 2);
+
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        Future<?> first = callers.submit(() -> guard.execute(() -> hold(started, finish)));
+        Future<?> second = callers.submit(() -> guard.execute(() -> hold(started, finish)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> guard.execute(() -> "ok"))
+                .isInstanceOf(ModelCallRejectedException.class)
+                .extracting("reason").isEqualTo(Reason.CIRCUIT_OPEN);
+
+        finish.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        callers.shutdown();
+        assertThat(guard.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void 느린_호출은_성공해도_실패로_집계된다() {
+        ModelCallGuard guard = guard();
+        for (int i = 0; i < WINDOW; i++) {
+            guard.execute(() -> sleep(SLOW_CALL_MS + 20));
+        }
+        assertThat(guard.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void 스트림은_첫_조각까지의_시간으로_판단하고_전체_시간은_느린_호출로_보지_않는다() {
+        ModelCallGuard guard = guard();
+        for (int i = 0; i < WINDOW; i++) {
+            guard.executeStream(firstChunk -> {
+                firstChunk.run();
+                return sleep(SLOW_CALL_MS + 20); // 답장이 길어 전체 시간은 slow-call 기준을 넘음
+            });
+        }
+        assertThat(guard.getState()).isEqualTo(State.CLOSED);
+        assertThat(limit()).isGreaterThanOrEqualTo(10);
+        assertThat(baselineMs("stream")).isLessThan(SLOW_CALL_MS);
+    }
+
+    @Test
+    void 첫_조각이_늦게_오는_스트림은_느린_호출이다() {
+        ModelCallGuard guard = guard();
+        for (int i = 0; i < WINDOW; i++) {
+            guard.executeStream(firstChunk -> {
+                sleep(SLOW_CALL_MS + 20);
+                firstChunk.run();
+                return "ok";
+            });
+        }
+        assertThat(guard.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void 목표_지연_이내_성공이면_한도가_늘어난다() {
+        ModelCallGuard guard = guard(2, 10, 0.5, 0.05);
+        for (int i = 0; i < 10; i++) {
+            guard.execute(() -> "ok");
+        }
+        assertThat(limit()).isGreaterThan(2);
+    }
+
+    @Test
+    void 실패하면_한도가_backoff_비율만큼_줄어든다() {
+        ModelCallGuard guard = guard(10, 50, 0.5, 0.05);
+        fail(guard);
+        assertThat(limit()).isEqualTo(5);
+    }
+
+    @Test
+    void 기준보다_크게_느린_성공은_한도를_줄인다() {
+        ModelCallGuard guard = guard(10, 50, 0.5, 0.05);
+        guard.execute(() -> "ok"); // 기준 ~0ms -> 목표 = min-target-latency (20ms)
+        double before = limit();
+
+        guard.execute(() -> sleep(60));
+        assertThat(limit()).isLessThan(before);
+    }
+
+    @Test
+    void 평소_지연이_길면_기준이_따라가서_한도를_줄이지_않는다() {
+        ModelCallGuard guard = guard(10, 50, 0.5, 0.5);
+        guard.execute(() -> sleep(60)); // 첫 관측으로 기준 설정
+        guard.execute(() -> sleep(60));
+        assertThat(baselineMs("complete")).isGreaterThanOrEqualTo(50);
+        double before = limit();
+
+        // 고정 목표(20ms)였다면 줄었을 지연이지만 기준 x 2 이내라 한도가 늘어남
+        guard.execute(() -> sleep(70));
+        assertThat(limit()).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    void 한도와_대기열이_가득_차면_QUEUE_FULL_로_거절한다() throws Exception {
+        ModelCallGuard guard = guard(1, 1, 0.5, 0.05);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        Future<?> running = caller.submit(() -> guard.execute(() -> hold(started, finish)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        AtomicBoolean called = new AtomicBoolean();
+        assertThatThrownBy(() -> guard.execute(() -> called.getAndSet(true)))
+                .isInstanceOf(ModelCallRejectedException.class)
+                .extracting("reason").isEqualTo(Reason.QUEUE_FULL);
+        assertThat(called).isFalse();
+
+        finish.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        caller.shutdown();
+    }
+
+    private void open(ModelCallGuard guard) {
+        for (int i = 0; i < WINDOW; i++) {
+            fail(guard);
+        }
+        assertThat(guard.getState()).isEqualTo(State.OPEN);
+    }
+
+    private void fail(ModelCallGuard guard) {
+        assertThatThrownBy(() -> guard.execute(() -> {
+            throw new IllegalStateException("model error");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    private double limit() {
+        return meterRegistry.get("openai.guard.limit").gauge().value();
+    }
+
+    private double baselineMs(String type) {
+        return meterRegistry.get("openai.guard.latency.baseline").tag("type", type).gauge().value();
+    }
+
+    private static String hold(CountDownLatch started, CountDownLatch finish) {
+        started.countDown();
+        try {
+            finish.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "ok";
+    }
+
+    private static String sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "ok";
+    }
+}
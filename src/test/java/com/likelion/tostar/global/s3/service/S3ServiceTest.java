@@ -0,0 +1,109 @@
+package com.likelion.tostar.global.s3.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.likelion.tostar.global.exception.GeneralException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 여러 파일 병렬 업로드 : 요청당 동시 업로드 수 제한, 업로드 스레드가 permit 대기로 막히지 않는지, 순서 / 실패 정리
+ */
+class S3ServiceTest {
+    private static final int MAX_CONCURRENCY = 2;
+
+    private final AmazonS3Client s3Client = mock(AmazonS3Client.class);
+    private ThreadPoolTaskExecutor executor;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.initialize();
+
+        s3Service = new S3Service(s3Client, executor);
+        ReflectionTestUtils.setField(s3Service, "bucket", "bucket");
+        ReflectionTestUtils.setField(s3Service, "maxConcurrencyPerRequest", MAX_CONCURRENCY);
+        ReflectionTestUtils.setField(s3Service, "uploadTimeoutMs", 5_000L);
+        when(s3Client.getUrl(eq("bucket"), anyString()))
+                .thenAnswer(invocation -> new URL("https://bucket.s3/" + invocation.getArgument(1, String.class)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void 동시_업로드는_제한되고_업로드_스레드는_대기하지_않는다() {
+        AtomicInteger uploading = new AtomicInteger();
+        AtomicInteger maxUploading = new AtomicInteger();
+        AtomicInteger maxActiveThreads = new AtomicInteger();
+        when(s3Client.putObject(eq("bucket"), anyString(), any(InputStream.class), any(ObjectMetadata.class)))
+                .thenAnswer(invocation -> {
+                    maxUploading.accumulateAndGet(uploading.incrementAndGet(), Math::max);
+                    maxActiveThreads.accumulateAndGet(executor.getActiveCount(), Math::max);
+                    Thread.sleep(30);
+                    uploading.decrementAndGet();
+                    return null;
+                });
+
+        List<MultipartFile> files = files(8);
+        List<String> urls = s3Service.uploadFiles(files);
+
+        assertThat(maxUploading.get()).isLessThanOrEqualTo(MAX_CONCURRENCY);
+        // permit 을 업로드 스레드에서 기다리면 파일 수(8)만큼 스레드를 점유한 채 대기함
+        // (업로드를 끝내고 반환 중인 스레드가 잠깐 함께 집계될 수 있어 제한의 2배까지 허용)
+        assertThat(maxActiveThreads.get()).isLessThanOrEqualTo(MAX_CONCURRENCY * 2);
+        // 반환 순서 = 입력 순서
+        assertThat(urls).hasSize(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            assertThat(urls.get(i)).endsWith("_file" + i + ".png");
+        }
+    }
+
+    @Test
+    void 하나라도_실패하면_이미_올린_파일을_삭제한다() {
+        when(s3Client.putObject(eq("bucket"), anyString(), any(InputStream.class), any(ObjectMetadata.class)))
+                .thenAnswer(invocation -> {
+                    if (invocation.getArgument(1, String.class).endsWith("_file1.png")) {
+                        throw new AmazonServiceException("fail");
+                    }
+                    return null;
+                });
+
+        assertThatThrownBy(() -> s3Service.uploadFiles(files(2))).isInstanceOf(GeneralException.class);
+
+        verify(s3Client).deleteObject(eq("bucket"), endsWith("_file0.png"));
+    }
+
+    private static List<MultipartFile> files(int count) {
+        return IntStream.range(0, count)
+                .<MultipartFile>mapToObj(i -> new MockMultipartFile(
+                        "images", "file" + i + ".png", "image/png", new byte[]{(byte) i}))
+                .toList();
+    }
+}
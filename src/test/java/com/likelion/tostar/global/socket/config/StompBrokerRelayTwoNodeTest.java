@@ -0,0 +1,173 @@
+package com.likelion.tostar.global.socket.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * relay 모드 다중 서버 전달 확인
+ * 내장 Artemis(STOMP) 에 서버 두 대 분량의 relay 를 붙여, A 에서 보낸 채팅이 B 의 구독자에게 도착하는지 검사
+ */
+class StompBrokerRelayTwoNodeTest {
+
+    private static final String DESTINATION = "/topic/chatroom/1";
+
+    @TempDir
+    Path dataDir;
+
+    private EmbeddedActiveMQ broker;
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .setJournalDirectory(Files.createDirectories(dataDir.resolve("journal")).toString())
+                .setBindingsDirectory(Files.createDirectories(dataDir.resolve("bindings")).toString())
+                .setPagingDirectory(Files.createDirectories(dataDir.resolve("paging")).toString())
+                .setLargeMessagesDirectory(Files.createDirectories(dataDir.resolve("large")).toString())
+                .addAcceptorConfiguration("stomp",
+                        "tcp://127.0.0.1:" + port + "?protocols=STOMP;multicastPrefix=/topic/"));
+        broker.start();
+
+        nodeA = new Node("127.0.0.1", port);
+        nodeB = new Node("127.0.0.1", port);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (nodeA != null) {
+            nodeA.stop();
+        }
+        if (nodeB != null) {
+            nodeB.stop();
+        }
+        broker.stop();
+    }
+
+    @Test
+    void A_서버에서_보낸_채팅이_B_서버의_구독자에게_전달된다() throws Exception {
+        nodeA.awaitBrokerAvailable();
+        nodeB.awaitBrokerAvailable();
+
+        // B 서버에 접속한 클라이언트가 채팅방 구독 (RECEIPT 로 구독 완료 확인)
+        nodeB.connectClient("session-b");
+        nodeB.subscribe("session-b", "sub-0", DESTINATION);
+
+        // A 서버의 SimpMessagingTemplate.convertAndSend 와 같은 경로 (세션 없는 broker 채널 메시지)
+        nodeA.publish(DESTINATION, "{\"content\":\"hello from A\"}");
+
+        Message<?> received = nodeB.awaitFrame(StompCommand.MESSAGE);
+        assertThat(received).isNotNull();
+        assertThat(new String((byte[]) received.getPayload(), StandardCharsets.UTF_8)).contains("hello from A");
+        assertThat(StompHeaderAccessor.wrap(received).getSubscriptionId()).isEqualTo("sub-0");
+    }
+
+    /**
+     * 서버 한 대 분량의 relay (WebSocketConfig 와 같은 연결 풀 / TCP 클라이언트 사용)
+     */
+    private static class Node {
+        private final ConnectionProvider connectionProvider;
+        private final StompBrokerRelayMessageHandler relay;
+        private final BlockingQueue<Message<?>> outbound = new LinkedBlockingQueue<>();
+
+        Node(String host, int port) {
+            connectionProvider = WebSocketConfig.relayConnectionProvider(10, Duration.ofSeconds(5), Duration.ofSeconds(60));
+
+            ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+            ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+            ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+            clientOutbound.subscribe(outbound::add);
+
+            relay = new StompBrokerRelayMessageHandler(clientInbound, clientOutbound, brokerChannel,
+                    List.of("/topic", "/queue"));
+            relay.setTcpClient(WebSocketConfig.relayTcpClient(connectionProvider, host, port));
+            relay.start();
+        }
+
+        void awaitBrokerAvailable() throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!relay.isBrokerAvailable()) {
+                assertThat(System.nanoTime()).as("relay system session 연결").isLessThan(deadline);
+                Thread.sleep(50);
+            }
+        }
+
+        void connectClient(String sessionId) throws InterruptedException {
+            StompHeaderAccessor connect = StompHeaderAccessor.create(StompCommand.CONNECT);
+            connect.setSessionId(sessionId);
+            connect.setAcceptVersion("1.2");
+            connect.setHeartbeat(0, 0);
+            relay.handleMessage(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+            assertThat(awaitFrame(StompCommand.CONNECTED)).as("CONNECTED").isNotNull();
+        }
+
+        void subscribe(String sessionId, String subscriptionId, String destination) throws InterruptedException {
+            StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            subscribe.setSessionId(sessionId);
+            subscribe.setSubscriptionId(subscriptionId);
+            subscribe.setDestination(destination);
+            subscribe.setReceipt("subscribed");
+            relay.handleMessage(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+            assertThat(awaitFrame(StompCommand.RECEIPT)).as("SUBSCRIBE RECEIPT").isNotNull();
+        }
+
+        void publish(String destination, String json) {
+            SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            headers.setDestination(destination);
+            headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            relay.handleMessage(MessageBuilder.createMessage(json.getBytes(StandardCharsets.UTF_8),
+                    headers.getMessageHeaders()));
+        }
+
+        Message<?> awaitFrame(StompCommand command) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (true) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return null;
+                }
+                Message<?> message = outbound.poll(remaining, TimeUnit.NANOSECONDS);
+                if (message != null && StompHeaderAccessor.wrap(message).getCommand() == command) {
+                    return message;
+                }
+            }
+        }
+
+        void stop() {
+            relay.stop();
+            connectionProvider.dispose();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.likelion.tostar.global.socket.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.likelion.tostar.domain.chat.dto.CommunityChatResponseDTO;
+import com.likelion.tostar.domain.chat.entity.enums.MessageType;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CompactJsonCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CompactJsonCodec codec = new CompactJsonCodec(objectMapper);
+
+    @Test
+    void 필드명을_축약하고_null_을_제거한_뒤_되돌리면_원래_값과_같다() throws Exception {
+        CommunityChatResponseDTO chat = CommunityChatResponseDTO.builder()
+                .chatId(7L)
+                .email("a@tostar.com")
+                .petName("초코")
+                .messageType(MessageType.TALK)
+                .content("안녕")
+                .build(); // profileImage = null
+
+        byte[] json = objectMapper.writeValueAsBytes(List.of(chat, chat));
+        byte[] compact = codec.compact(json);
+
+        JsonNode compactTree = objectMapper.readTree(compact);
+        assertThat(compactTree.get(0).has("i")).isTrue();
+        assertThat(compactTree.get(0).has("chatId")).isFalse();
+        assertThat(compactTree.get(0).has("p")).isFalse();
+        assertThat(compact.length).isLessThan(json.length);
+
+        // null 이었던 필드만 빠지고 나머지는 원래 이름/값으로 복원
+        JsonNode expected = objectMapper.readTree(json);
+        ((ObjectNode) expected.get(0)).remove("profileImage");
+        ((ObjectNode) expected.get(1)).remove("profileImage");
+        assertThat(codec.expand(compact)).isEqualTo(expected);
+    }
+}
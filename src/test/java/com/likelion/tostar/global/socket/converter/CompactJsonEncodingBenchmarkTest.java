@@ -0,0 +1,92 @@
+package com.likelion.tostar.global.socket.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.tostar.domain.chat.dto.ChatPresenceResponseDTO;
+import com.likelion.tostar.domain.chat.dto.ChatPresenceUserDTO;
+import com.likelion.tostar.domain.chat.dto.CommunityChatResponseDTO;
+import com.likelion.tostar.domain.chat.entity.enums.MessageType;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 채팅 프레임 인코딩 비교 (기본 JSON vs 압축 JSON) : ./gradlew benchmark
+ * - 크기 : 단건 채팅 / 묶음 50건 / 접속자 현황 30명
+ * - 시간 : 기본 JSON 직렬화 vs 기본 JSON 직렬화 + 압축 변환 (브로커 채널 인터셉터 경로)
+ *   압축 변환은 메시지당 1번만 하고 구독자별 메시지는 결과를 공유하므로, 구독자 수와 무관
+ */
+@Tag("benchmark")
+class CompactJsonEncodingBenchmarkTest {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CompactJsonCodec codec = new CompactJsonCodec(objectMapper);
+
+    @Test
+    void 압축_JSON_크기와_인코딩_시간_비교() throws IOException {
+        report("single chat", chat(1));
+        report("batch of 50", IntStream.range(0, 50).mapToObj(this::chat).toList());
+        report("presence x30", presence(30));
+    }
+
+    private void report(String name, Object payload) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(payload);
+        byte[] compact = codec.compact(json);
+        assertThat(compact.length).as(name).isLessThan(json.length);
+
+        double jsonNanos = measure(() -> objectMapper.writeValueAsBytes(payload));
+        double compactNanos = measure(() -> codec.compact(objectMapper.writeValueAsBytes(payload)));
+
+        System.out.printf("%-14s json=%6d B  compact=%6d B (%5.1f%%)  encode json=%8.0f ns  json+compact=%8.0f ns%n",
+                name, json.length, compact.length, 100.0 * compact.length / json.length, jsonNanos, compactNanos);
+    }
+
+    private double measure(Encoder encoder) throws IOException {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += encoder.encode().length;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += encoder.encode().length;
+        }
+        double perOp = (double) (System.nanoTime() - start) / ITERATIONS;
+        assertThat(sink).isPositive(); // JIT 가 결과를 버리지 않도록
+        return perOp;
+    }
+
+    private CommunityChatResponseDTO chat(int i) {
+        return CommunityChatResponseDTO.builder()
+                .chatId(1_000_000L + i)
+                .email("user" + i + "@tostar.com")
+                .petName("초코" + i)
+                .messageType(MessageType.TALK)
+                .profileImage("https://tostar-bucket.s3.ap-northeast-2.amazonaws.com/profile/" + i + ".png")
+                .content("오늘 산책하다가 초코가 좋아하던 공원에 다녀왔어요 " + i)
+                .build();
+    }
+
+    private ChatPresenceResponseDTO presence(int users) {
+        List<ChatPresenceUserDTO> online = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            online.add(ChatPresenceUserDTO.builder()
+                    .userId((long) i)
+                    .email("user" + i + "@tostar.com")
+                    .petName("초코" + i)
+                    .profileImage(null)
+                    .build());
+        }
+        return ChatPresenceResponseDTO.builder().communityId(1L).onlineCount(users).users(online).build();
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        byte[] encode() throws IOException;
+    }
+}
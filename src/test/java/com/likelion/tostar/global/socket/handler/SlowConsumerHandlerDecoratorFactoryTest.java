@@ -0,0 +1,90 @@
+package com.likelion.tostar.global.socket.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 세션 전송 풀 구성 : 전송이 멈춘 세션이 다른 세션의 전송을 막지 않는지, 점검이 전용 스레드에서 도는지
+ */
+class SlowConsumerHandlerDecoratorFactoryTest {
+
+    private final CountDownLatch releaseBlocked = new CountDownLatch(1);
+    private final WebSocketHandler handler = mock(WebSocketHandler.class);
+    private SlowConsumerHandlerDecoratorFactory factory;
+
+    @AfterEach
+    void tearDown() {
+        releaseBlocked.countDown();
+        factory.shutdown();
+    }
+
+    @Test
+    void 전송이_멈춘_세션이_있어도_다른_세션은_바로_전송된다() throws Exception {
+        // core-size 1 : 대기열이 있으면 두 번째 세션부터 멈춘 세션 뒤에서 기다림
+        factory = factory(1, 4, 15_000, 60_000);
+        WebSocketSession stalled = blockingDelegate("stalled");
+        connect(stalled).sendMessage(new TextMessage("1"));
+        verify(stalled, timeout(1000)).sendMessage(any());
+
+        WebSocketSession first = mockSession("first");
+        WebSocketSession second = mockSession("second");
+        connect(first).sendMessage(new TextMessage("2"));
+        connect(second).sendMessage(new TextMessage("3"));
+
+        verify(first, timeout(1000)).sendMessage(any());
+        verify(second, timeout(1000)).sendMessage(any());
+    }
+
+    @Test
+    void 주기_점검은_전용_스케줄러에서_멈춘_세션을_종료한다() throws Exception {
+        factory = factory(1, 4, 100, 50);
+        WebSocketSession stalled = blockingDelegate("stalled");
+        connect(stalled).sendMessage(new TextMessage("1"));
+
+        verify(stalled, timeout(2000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    private SlowConsumerHandlerDecoratorFactory factory(int coreSize, int maxSize, long sendTimeLimitMs,
+                                                        long checkIntervalMs) {
+        return new SlowConsumerHandlerDecoratorFactory(new SimpleMeterRegistry(), true, "drop-oldest-talk",
+                100, 1_000_000, sendTimeLimitMs, coreSize, maxSize, checkIntervalMs);
+    }
+
+    // 데코레이터가 만든 SlowConsumerSession 반환
+    private WebSocketSession connect(WebSocketSession session) throws Exception {
+        factory.decorate(handler).afterConnectionEstablished(session);
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler, timeout(1000).atLeastOnce()).afterConnectionEstablished(captor.capture());
+        WebSocketSession decorated = captor.getValue();
+        assertThat(decorated).isInstanceOf(SlowConsumerSession.class);
+        return decorated;
+    }
+
+    private WebSocketSession mockSession(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        return session;
+    }
+
+    private WebSocketSession blockingDelegate(String id) throws Exception {
+        WebSocketSession session = mockSession(id);
+        doAnswer(invocation -> releaseBlocked.await(5, TimeUnit.SECONDS)).when(session).sendMessage(any());
+        return session;
+    }
+}
@@ -0,0 +1,176 @@
+package com.likelion.tostar.global.socket.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+class SlowConsumerSessionTest {
+
+    private final CountDownLatch releaseBlocked = new CountDownLatch(1);
+    private SimpleMeterRegistry meterRegistry;
+    private SlowConsumerMetrics metrics;
+    private ThreadPoolTaskExecutor sendExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new SlowConsumerMetrics(meterRegistry);
+        // 전송 스레드 1개, 대기열 없음 : 두 번째 세션부터 거절
+        sendExecutor = new ThreadPoolTaskExecutor();
+        sendExecutor.setCorePoolSize(1);
+        sendExecutor.setMaxPoolSize(1);
+        sendExecutor.setQueueCapacity(0);
+        sendExecutor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseBlocked.countDown();
+        sendExecutor.shutdown();
+    }
+
+    @Test
+    void 전송_풀이_가득_차도_disconnect_정책은_연결을_유지하고_점검_때_전송한다() throws Exception {
+        WebSocketSession blocking = blockingDelegate("blocking");
+        session(blocking, SlowConsumerPolicy.DISCONNECT, 15_000).sendMessage(frame("1"));
+        verify(blocking, timeout(1000)).sendMessage(any());
+
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        WebSocketSession otherDelegate = recordingDelegate("other", delivered);
+        SlowConsumerSession other = session(otherDelegate, SlowConsumerPolicy.DISCONNECT, 15_000);
+        other.sendMessage(frame("2"));
+
+        verify(otherDelegate, never()).close(any());
+        assertThat(delivered).isEmpty();
+        assertThat(meterRegistry.counter("chat.slow-consumer.send.rejected").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.slow-consumer.sessions").gauge().value()).isZero();
+
+        // 스레드가 풀린 뒤 주기 점검에서 재시도
+        releaseBlocked.countDown();
+        Thread.sleep(100);
+        other.check();
+        awaitSize(delivered, 1);
+        assertThat(delivered).containsExactly("2");
+        verify(otherDelegate, never()).close(any());
+    }
+
+    @Test
+    void 전송_풀이_가득_차도_drop_정책은_큐에_두었다가_점검_때_전송한다() throws Exception {
+        WebSocketSession blocking = blockingDelegate("blocking");
+        session(blocking, SlowConsumerPolicy.DROP_OLDEST_TALK, 15_000).sendMessage(frame("1"));
+        verify(blocking, timeout(1000)).sendMessage(any());
+
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        SlowConsumerSession other = session(recordingDelegate("other", delivered),
+                SlowConsumerPolicy.DROP_OLDEST_TALK, 15_000);
+        other.sendMessage(frame("2"));
+        assertThat(delivered).isEmpty();
+
+        // 스레드가 풀린 뒤 주기 점검에서 재시도
+        releaseBlocked.countDown();
+        Thread.sleep(100);
+        other.check();
+        awaitSize(delivered, 1);
+        assertThat(delivered).containsExactly("2");
+    }
+
+    @Test
+    void 전송이_한도보다_오래_걸리면_새_프레임이_없어도_점검에서_종료한다() throws Exception {
+        WebSocketSession blocking = blockingDelegate("blocking");
+        SlowConsumerSession session = session(blocking, SlowConsumerPolicy.DROP_OLDEST_TALK, 50);
+        session.sendMessage(frame("1"));
+        verify(blocking, timeout(1000)).sendMessage(any());
+
+        Thread.sleep(100);
+        session.check();
+
+        verify(blocking).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.counter("chat.slow-consumer.disconnected").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 한도를_넘긴_전송이_끝나면_남은_프레임을_보내지_않고_종료한다() throws Exception {
+        WebSocketSession slow = mock(WebSocketSession.class);
+        when(slow.getId()).thenReturn("slow");
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            Thread.sleep(100);
+            delivered.add(((TextMessage) invocation.getArgument(0)).getPayload());
+            return null;
+        }).when(slow).sendMessage(any());
+
+        SlowConsumerSession session = session(slow, SlowConsumerPolicy.BATCH, 50);
+        session.sendMessage(frame("1"));
+        session.sendMessage(frame("2"));
+
+        verify(slow, timeout(1000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(delivered).containsExactly("1");
+    }
+
+    @Test
+    void 버린_채팅은_채팅방_태그로_집계한다() throws Exception {
+        WebSocketSession blocking = blockingDelegate("blocking");
+        SlowConsumerSession session = session(blocking, SlowConsumerPolicy.DROP_OLDEST_TALK, 15_000);
+        session.sendMessage(frame("1"));
+        verify(blocking, timeout(1000)).sendMessage(any());
+
+        // 전송이 멈춘 동안 한도(100) + 1 건 -> 가장 오래된 TALK 1건 버림
+        for (int i = 0; i < 101; i++) {
+            session.sendMessage(frame("MESSAGE\ndestination:/topic/chatroom/7\n\n{\"messageType\":\"TALK\"}\u0000"));
+        }
+
+        assertThat(meterRegistry.get("chat.slow-consumer.dropped").tag("room", "7").counter().count()).isEqualTo(1);
+    }
+
+    private SlowConsumerSession session(WebSocketSession delegate, SlowConsumerPolicy policy, long sendTimeLimitMs) {
+        return new SlowConsumerSession(delegate, policy, sendExecutor, metrics, 100, 1_000_000, sendTimeLimitMs);
+    }
+
+    private WebSocketSession blockingDelegate(String id) throws Exception {
+        WebSocketSession delegate = mock(WebSocketSession.class);
+        when(delegate.getId()).thenReturn(id);
+        doAnswer(invocation -> releaseBlocked.await(5, TimeUnit.SECONDS)).when(delegate).sendMessage(any());
+        return delegate;
+    }
+
+    private WebSocketSession recordingDelegate(String id, List<String> delivered) throws Exception {
+        WebSocketSession delegate = mock(WebSocketSession.class);
+        when(delegate.getId()).thenReturn(id);
+        doAnswer(invocation -> {
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            delivered.add(((TextMessage) message).getPayload());
+            return null;
+        }).when(delegate).sendMessage(any());
+        return delegate;
+    }
+
+    private void awaitSize(List<String> list, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (list.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private TextMessage frame(String payload) {
+        return new TextMessage(payload);
+    }
+}
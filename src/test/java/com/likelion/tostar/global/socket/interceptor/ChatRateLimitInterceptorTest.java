@@ -0,0 +1,108 @@
+package com.likelion.tostar.global.socket.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.likelion.tostar.global.socket.dto.ChatSessionUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * SEND 전송률 제한 : 버스트, 시간에 따른 충전, 세션별 / 사용자별 한도 (시계는 테스트에서 직접 진행)
+ */
+class ChatRateLimitInterceptorTest {
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+    @Test
+    void 세션_버스트만큼_바로_보내고_초과분은_거부한다() {
+        ChatRateLimitInterceptor interceptor = interceptor("error", 3, 1, 100, 100);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(interceptor.preSend(send("s1", 1L), channel)).isNotNull();
+        }
+        assertThatThrownBy(() -> interceptor.preSend(send("s1", 1L), channel))
+                .isInstanceOf(MessageDeliveryException.class);
+        assertThat(rejected("session")).isEqualTo(1);
+    }
+
+    @Test
+    void 시간이_지나면_충전된_만큼만_다시_보낼_수_있다() {
+        ChatRateLimitInterceptor interceptor = interceptor("drop", 2, 2, 100, 100);
+        assertThat(interceptor.preSend(send("s1", 1L), channel)).isNotNull();
+        assertThat(interceptor.preSend(send("s1", 1L), channel)).isNotNull();
+        assertThat(interceptor.preSend(send("s1", 1L), channel)).isNull();
+
+        // 초당 2개 : 0.5초 뒤 1개
+        advanceMillis(500);
+        assertThat(interceptor.preSend(send("s1", 1L), channel)).isNotNull();
+        assertThat(interceptor.preSend(send("s1", 1L), channel)).isNull();
+
+        // 오래 쉬어도 버스트(2개) 이상 쌓이지 않음
+        advanceMillis(10_000);
+        assertThat(interceptor.preSend(send("s1", 1L), channel)).isNotNull();
+        assertThat(interceptor.preSend(send("s1", 1L), channel)).isNotNull();
+        assertThat(interceptor.preSend(send("s1", 1L), channel)).isNull();
+        assertThat(rejected("session")).isEqualTo(3);
+    }
+
+    @Test
+    void 사용자_한도는_여러_세션을_합산하고_다른_사용자와는_분리된다() {
+        ChatRateLimitInterceptor interceptor = interceptor("drop", 10, 1, 3, 1);
+
+        assertThat(interceptor.preSend(send("tab-1", 1L), channel)).isNotNull();
+        assertThat(interceptor.preSend(send("tab-1", 1L), channel)).isNotNull();
+        assertThat(interceptor.preSend(send("tab-2", 1L), channel)).isNotNull();
+        // 세션 한도는 남았지만 사용자 한도 초과
+        assertThat(interceptor.preSend(send("tab-2", 1L), channel)).isNull();
+        assertThat(rejected("user")).isEqualTo(1);
+        assertThat(rejected("session")).isZero();
+
+        assertThat(interceptor.preSend(send("other", 2L), channel)).isNotNull();
+    }
+
+    @Test
+    void 버스트가_1_미만이거나_충전_속도가_0_이하면_기동에_실패한다() {
+        assertThatThrownBy(() -> interceptor("error", 0, 1, 10, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> interceptor("error", 10, 0, 10, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> interceptor("error", 10, 1, 10, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> interceptor("error", 10, Double.NaN, 10, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ChatRateLimitInterceptor interceptor(String policy, int sessionBurst, double sessionRefill,
+                                                 int userBurst, double userRefill) {
+        return new ChatRateLimitInterceptor(meterRegistry, true, policy,
+                sessionBurst, sessionRefill, userBurst, userRefill, nanos::get);
+    }
+
+    private void advanceMillis(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private double rejected(String scope) {
+        return meterRegistry.get("chat.rate-limit.rejected").tag("scope", scope).counter().count();
+    }
+
+    private static Message<byte[]> send(String sessionId, Long userId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setUser(ChatSessionUser.builder().userId(userId).build());
+        return MessageBuilder.createMessage("{}".getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,153 @@
+package com.likelion.tostar.global.socket.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.tostar.global.socket.converter.CompactJsonCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 구독 단위 압축 JSON : inbound 구독 관리, 브로커 채널 1회 압축, outbound payload 교체
+ */
+class CompactEncodingInterceptorTest {
+    private static final String DESTINATION = "/topic/community/1";
+    private static final byte[] JSON = "{\"chatId\":1,\"content\":\"안녕\",\"profileImage\":null}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final CompactJsonCodec codec = spy(new CompactJsonCodec(new ObjectMapper()));
+    private final CompactEncodingInterceptor interceptor =
+            new CompactEncodingInterceptor(codec, new SimpleMeterRegistry());
+
+    @Test
+    void 압축_구독한_세션이_보낸_SEND_는_그대로_통과한다() {
+        subscribe("s1", "sub-1", true);
+
+        StompHeaderAccessor send = StompHeaderAccessor.create(StompCommand.SEND);
+        send.setSessionId("s1");
+        send.setDestination("/app/chat/1");
+        send.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        Message<byte[]> frame = MessageBuilder.createMessage(JSON, send.getMessageHeaders());
+
+        // SEND 는 SimpMessageType.MESSAGE 지만 subscriptionId 가 없음
+        assertThat(interceptor.subscriptionTracker().preSend(frame, channel)).isSameAs(frame);
+        assertThat(interceptor.preSend(frame, channel)).isSameAs(frame);
+    }
+
+    @Test
+    void 브로커_채널에서_한_번만_압축하고_구독자별_메시지는_결과를_공유한다() throws Exception {
+        subscribe("s1", "sub-1", true);
+        subscribe("s2", "sub-2", true);
+        subscribe("s3", "sub-3", false);
+
+        Message<?> published = interceptor.brokerEncoder().preSend(brokerMessage(), channel);
+
+        Message<?> first = interceptor.preSend(fanOut(published, "s1", "sub-1"), channel);
+        Message<?> second = interceptor.preSend(fanOut(published, "s2", "sub-2"), channel);
+        Message<?> plain = interceptor.preSend(fanOut(published, "s3", "sub-3"), channel);
+
+        verify(codec, times(1)).compact(any(byte[].class));
+        assertThat(first.getPayload()).isSameAs(second.getPayload());
+        assertThat(new String((byte[]) first.getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"i\":1,\"c\":\"안녕\"}");
+        assertThat(SimpMessageHeaderAccessor.wrap(first).getContentType())
+                .isEqualTo(CompactJsonCodec.COMPACT_JSON);
+        assertThat(first.getHeaders()).doesNotContainKey(CompactEncodingInterceptor.COMPACT_PAYLOAD_HEADER);
+
+        assertThat(plain.getPayload()).isEqualTo(JSON);
+        assertThat(SimpMessageHeaderAccessor.wrap(plain).getContentType())
+                .isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    @Test
+    void 미리_압축하지_않은_메시지는_같은_payload_당_한_번만_압축한다() throws Exception {
+        subscribe("s1", "sub-1", true);
+        subscribe("s2", "sub-2", true);
+
+        // relay 모드 : 구독자마다 payload 배열이 따로 옴
+        Message<?> first = interceptor.preSend(outboundMessage(JSON.clone(), "s1", "sub-1"), channel);
+        Message<?> second = interceptor.preSend(outboundMessage(JSON.clone(), "s2", "sub-2"), channel);
+
+        verify(codec, times(1)).compact(any(byte[].class));
+        assertThat(first.getPayload()).isSameAs(second.getPayload());
+    }
+
+    @Test
+    void 구독_해지와_연결_종료_후에는_압축하지_않는다() {
+        subscribe("s1", "sub-1", true);
+        subscribe("s2", "sub-2", true);
+
+        StompHeaderAccessor unsubscribe = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        unsubscribe.setSessionId("s1");
+        unsubscribe.setSubscriptionId("sub-1");
+        interceptor.subscriptionTracker()
+                .preSend(MessageBuilder.createMessage(new byte[0], unsubscribe.getMessageHeaders()), channel);
+
+        StompHeaderAccessor disconnect = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        disconnect.setSessionId("s2");
+        interceptor.subscriptionTracker()
+                .preSend(MessageBuilder.createMessage(new byte[0], disconnect.getMessageHeaders()), channel);
+
+        // 압축 구독자가 없는 destination 은 브로커 채널에서도 건너뜀
+        Message<?> brokerMessage = brokerMessage();
+        assertThat(interceptor.brokerEncoder().preSend(brokerMessage, channel)).isSameAs(brokerMessage);
+
+        Message<?> outbound = outboundMessage(JSON, "s1", "sub-1");
+        assertThat(interceptor.preSend(outbound, channel)).isSameAs(outbound);
+        outbound = outboundMessage(JSON, "s2", "sub-2");
+        assertThat(interceptor.preSend(outbound, channel)).isSameAs(outbound);
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, boolean compact) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(DESTINATION);
+        if (compact) {
+            accessor.setContentType(CompactJsonCodec.COMPACT_JSON);
+        }
+        interceptor.subscriptionTracker()
+                .preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), channel);
+    }
+
+    private Message<byte[]> brokerMessage() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(DESTINATION);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(JSON, accessor.getMessageHeaders());
+    }
+
+    // SimpleBrokerMessageHandler 와 같은 방식 : 구독자별 헤더 + 원본 헤더 복사, payload 는 공유
+    private Message<?> fanOut(Message<?> published, String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.copyHeadersIfAbsent(published.getHeaders());
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(published.getPayload(), accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> outboundMessage(byte[] payload, String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(DESTINATION);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}